@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Runs LoadGenerator against the application once per thread mode and prints both
+# results. Needs Java 21+ (virtual threads) and a MongoDB reachable at MONGODB_URI.
+#
+#   benchmark/compare-thread-modes.sh [path] [concurrency] [warmupSeconds] [durationSeconds]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+PATH_UNDER_TEST="${1:-/tasks?page=0&size=20}"
+CONCURRENCY="${2:-400}"
+WARMUP="${3:-15}"
+DURATION="${4:-60}"
+PORT="${PORT:-8080}"
+MONGODB_URI="${MONGODB_URI:-mongodb://localhost:27017/task_db_benchmark}"
+
+java_major=$(java -XshowSettings:properties -version 2>&1 | awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${java_major%%.*}" -lt 21 ]; then
+    # On older runtimes Spring Boot silently keeps platform threads, so both runs would be identical
+    echo "Java 21+ is required for the virtual thread run (found ${java_major})" >&2
+    exit 1
+fi
+
+./mvnw -B -q -DskipTests package
+JAR=$(ls target/task-management-system-*.jar | grep -v original | head -n 1)
+
+run_mode() {
+    local virtual="$1"
+    local log="target/benchmark-virtual-${virtual}.log"
+
+    # Only the thread mode differs between runs; per-client rate limiting and the
+    # adaptive concurrency limit are lifted so they do not cap the load generator,
+    # and background jobs that need Kafka or SMTP are switched off.
+    VIRTUAL_THREADS_ENABLED="$virtual" \
+    TASK_EVENTS_TRANSPORT=in-process \
+    OUTBOX_RELAY_ENABLED=false \
+    MAIL_DISPATCHER_ENABLED=false \
+    MAIL_DIGEST_ENABLED=false \
+    java -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.data.mongodb.uri="$MONGODB_URI" \
+        --application.rate-limit.requests-per-second=1000000 \
+        --application.rate-limit.burst=1000000 \
+        --application.rate-limit.anonymous-requests-per-second=1000000 \
+        --application.rate-limit.anonymous-burst=1000000 \
+        --application.concurrency-limit.enabled=false \
+        > "$log" 2>&1 &
+    local pid=$!
+    trap "kill $pid 2>/dev/null || true" EXIT
+
+    until curl -s -o /dev/null "http://localhost:${PORT}/api/v3/api-docs"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application failed to start, see $log" >&2
+            exit 1
+        fi
+        sleep 1
+    done
+
+    echo "== spring.threads.virtual.enabled=${virtual}"
+    java benchmark/LoadGenerator.java "http://localhost:${PORT}/api" "$PATH_UNDER_TEST" \
+        "$CONCURRENCY" "$WARMUP" "$DURATION"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+run_mode false
+run_mode true
@@ -1,17 +1,29 @@
 package com.taskmanagement.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * {@code @Async} executor. With {@code spring.threads.virtual.enabled=true} on Java 21+
+ * every task runs on its own virtual thread, capped at
+ * {@code application.async.virtual.max-concurrency}; Spring Boot moves Tomcat's
+ * request handling and the scheduler onto virtual threads under the same switch.
+ * Otherwise the bounded platform-thread pool is used.
+ */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
     public Executor taskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
@@ -21,4 +33,14 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public Executor virtualThreadTaskExecutor(@Value("${application.async.virtual.max-concurrency}") int maxConcurrency) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-vt-");
+        executor.setVirtualThreads(true);
+        // Submitters block once the limit is reached instead of spawning unbounded work
+        executor.setConcurrencyLimit(maxConcurrency);
+        return executor;
+    }
 }
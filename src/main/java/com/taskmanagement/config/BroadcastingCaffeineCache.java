@@ -0,0 +1,65 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.service.CacheInvalidationPublisher;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+/**
+ * Caffeine cache whose writes invalidate the same key on every other node. Reads
+ * and loads stay local: read-through fills go through {@code get(key, loader)} or
+ * {@code putIfAbsent}, which never broadcast. {@code put}, as issued by
+ * {@code @CachePut}, and the evictions make the other nodes evict, so they reload the
+ * new value on their next miss. Callers caching a value they merely read must
+ * therefore not use {@code put}. The {@code *Locally} methods apply an invalidation
+ * received from another node without echoing it.
+ */
+public class BroadcastingCaffeineCache extends CaffeineCache {
+
+    private final CacheInvalidationPublisher publisher;
+
+    public BroadcastingCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache,
+            boolean allowNullValues, CacheInvalidationPublisher publisher) {
+        super(name, cache, allowNullValues);
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        super.put(key, value);
+        publisher.keyChanged(getName(), key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        super.evict(key);
+        publisher.keyChanged(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = super.evictIfPresent(key);
+        // Other nodes may hold the key even if this one did not
+        publisher.keyChanged(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        publisher.cacheCleared(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = super.invalidate();
+        publisher.cacheCleared(getName());
+        return invalidated;
+    }
+
+    public void evictLocally(Object key) {
+        super.evict(key);
+    }
+
+    public void clearLocally() {
+        super.clear();
+    }
+}
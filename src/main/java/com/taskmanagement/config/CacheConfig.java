@@ -1,9 +1,73 @@
 package com.taskmanagement.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.service.CacheInvalidationPublisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheConfig.CacheSpecs.class)
 public class CacheConfig {
+
+    /**
+     * Bounded Caffeine caches, one per entry in {@code application.cache.specs}. Each
+     * spec carries its own size and TTL, unknown cache names are rejected, and {@code recordStats} lets the actuator
+     * publish hit/miss/eviction metrics under {@code cache.*}. With cross-node
+     * invalidation enabled, the caches listed under {@code broadcast} evict changed
+     * keys on every other node as well.
+     */
+    @Bean
+    public CacheManager cacheManager(CacheSpecs cacheSpecs, ObjectProvider<CacheInvalidationPublisher> publisherProvider) {
+        CacheInvalidationPublisher publisher = publisherProvider.getIfAvailable();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                if (publisher != null && cacheSpecs.getBroadcast().contains(name)) {
+                    return new BroadcastingCaffeineCache(name, cache, isAllowNullValues(), publisher);
+                }
+                return super.adaptCaffeineCache(name, cache);
+            }
+        };
+        cacheManager.setCacheNames(cacheSpecs.getSpecs().keySet());
+        cacheSpecs.getSpecs().forEach((name, spec) ->
+                cacheManager.registerCustomCache(name, Caffeine.from(spec).build()));
+        return cacheManager;
+    }
+
+    @ConfigurationProperties(prefix = "application.cache")
+    public static class CacheSpecs {
+
+        private Map<String, String> specs = new LinkedHashMap<>();
+
+        private Set<String> broadcast = new HashSet<>();
+
+        public Map<String, String> getSpecs() {
+            return specs;
+        }
+
+        public void setSpecs(Map<String, String> specs) {
+            this.specs = specs;
+        }
+
+        public Set<String> getBroadcast() {
+            return broadcast;
+        }
+
+        public void setBroadcast(Set<String> broadcast) {
+            this.broadcast = broadcast;
+        }
+    }
 }
@@ -1,10 +1,39 @@
 package com.taskmanagement.config;
 
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.event.TaskEventDeserializer;
+import com.taskmanagement.event.TaskEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Configuration
 public class KafkaConfig {
@@ -12,13 +41,22 @@ public class KafkaConfig {
     @Value("${application.kafka.topics.task-events}")
     private String taskEventsTopic;
 
+    @Value("${application.kafka.topics.task-events-failed}")
+    private String taskEventsFailedTopic;
+
     @Value("${application.kafka.topics.notification-events}")
     private String notificationEventsTopic;
 
+    @Value("${application.kafka.topics.cache-invalidations}")
+    private String cacheInvalidationsTopic;
+
+    @Value("${application.kafka.task-events.partitions}")
+    private int taskEventsPartitions;
+
     @Bean
     public NewTopic taskEventsTopic() {
         return TopicBuilder.name(taskEventsTopic)
-                .partitions(3)
+                .partitions(taskEventsPartitions)
                 .replicas(1)
                 .build();
     }
@@ -30,4 +68,108 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
+
+    /**
+     * Single partition so every node sees invalidations in the order they were sent.
+     */
+    @Bean
+    public NewTopic cacheInvalidationsTopic() {
+        return TopicBuilder.name(cacheInvalidationsTopic)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * Invalidations are sent from inside cache writes, so the producer must never
+     * hold a request for long when the broker is unreachable.
+     */
+    @Bean
+    public KafkaTemplate<String, String> cacheInvalidationKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> producerProperties = kafkaProperties.buildProducerProperties(null);
+        producerProperties.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 1000);
+        producerProperties.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                producerProperties, new StringSerializer(), new StringSerializer()));
+    }
+
+    /**
+     * Task events go on the wire in the {@link com.taskmanagement.event.TaskEventCodec}
+     * binary format; the rest of the producer settings come from {@code spring.kafka}.
+     * The outbox relay sends from a scheduler thread under a lease, so a send must
+     * fail fast rather than block for the default minute when the broker is down.
+     */
+    @Bean
+    public KafkaTemplate<String, TaskEvent> taskEventKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> producerProperties = kafkaProperties.buildProducerProperties(null);
+        producerProperties.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000);
+        DefaultKafkaProducerFactory<String, TaskEvent> producerFactory = new DefaultKafkaProducerFactory<>(
+                producerProperties, new StringSerializer(), new TaskEventSerializer());
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * Batch listener factory for the main task events topic: one consumer per
+     * partition and offsets committed manually once a batch has been applied. A
+     * record that fails is retried twice in place, then handed to the failed-events
+     * topic, whose listener retries with exponential backoff before the DLT. Payloads
+     * that cannot be decoded skip the retries and go straight to the DLT.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> taskEventBatchListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, KafkaProperties kafkaProperties,
+            KafkaTemplate<String, TaskEvent> taskEventKafkaTemplate, MeterRegistry meterRegistry) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory =
+                listenerContainerFactory(configurer, kafkaProperties, meterRegistry);
+        factory.setBatchListener(true);
+        factory.setConcurrency(taskEventsPartitions);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(TaskEvent.class, taskEventKafkaTemplate);
+        // Undecodable records are republished as their original bytes
+        templates.put(byte[].class, new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null), new StringSerializer(), new ByteArraySerializer())));
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates,
+                (record, exception) -> new TopicPartition(
+                        record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null
+                                ? taskEventsFailedTopic + "-dlt"
+                                : taskEventsFailedTopic,
+                        -1));
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer, new FixedBackOff(200L, 2L));
+        errorHandler.addNotRetryableExceptions(DeserializationException.class);
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+
+    /**
+     * Record listener factory used by the failed-events retry chain.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> taskEventListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, KafkaProperties kafkaProperties,
+            MeterRegistry meterRegistry) {
+        return listenerContainerFactory(configurer, kafkaProperties, meterRegistry);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ConcurrentKafkaListenerContainerFactory<Object, Object> listenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer, KafkaProperties kafkaProperties,
+            MeterRegistry meterRegistry) {
+        Map<String, Object> consumerProperties = kafkaProperties.buildConsumerProperties(null);
+        // Offsets are committed by the container, never by the client in the background
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        DefaultKafkaConsumerFactory<String, TaskEvent> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                consumerProperties,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new TaskEventDeserializer()));
+        // Exposes client metrics such as records-lag-max and records-consumed-rate
+        consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, (ConsumerFactory) consumerFactory);
+        return factory;
+    }
 }
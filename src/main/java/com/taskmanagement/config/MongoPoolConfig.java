@@ -0,0 +1,29 @@
+package com.taskmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the Mongo connection pool explicitly. Request concurrency is unbounded on
+ * virtual threads, so the pool size is the concurrency guard for the database and
+ * {@code max-wait} turns a saturated pool into a fast failure instead of a pile-up.
+ */
+@Configuration
+public class MongoPoolConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer(
+            @Value("${application.mongodb.pool.max-size}") int maxSize,
+            @Value("${application.mongodb.pool.max-connecting}") int maxConnecting,
+            @Value("${application.mongodb.pool.max-wait}") Duration maxWait) {
+        return settings -> settings.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxSize)
+                .maxConnecting(maxConnecting)
+                .maxWaitTime(maxWait.toMillis(), TimeUnit.MILLISECONDS));
+    }
+}
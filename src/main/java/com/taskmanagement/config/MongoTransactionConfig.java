@@ -0,0 +1,22 @@
+package com.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.MongoTransactionManager;
+
+/**
+ * Activates the {@code @Transactional} boundaries in the services, which is what
+ * makes a task write and its outbox entries atomic. Multi-document transactions
+ * need a replica set, so this stays off for a standalone mongod.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.mongodb", name = "transactions-enabled", havingValue = "true")
+public class MongoTransactionConfig {
+
+    @Bean
+    public MongoTransactionManager transactionManager(MongoDatabaseFactory databaseFactory) {
+        return new MongoTransactionManager(databaseFactory);
+    }
+}
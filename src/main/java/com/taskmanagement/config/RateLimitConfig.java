@@ -0,0 +1,131 @@
+package com.taskmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitConfig.RateLimitProperties.class)
+public class RateLimitConfig {
+
+    /**
+     * Token-bucket settings. Authenticated callers get a bucket per user, anonymous
+     * callers one per client IP. Each request takes the cost of the first matching
+     * entry in {@code costs}, or {@code default-cost} when none match.
+     */
+    @ConfigurationProperties(prefix = "application.rate-limit")
+    public static class RateLimitProperties {
+
+        private double requestsPerSecond = 10;
+        private int burst = 20;
+        private double anonymousRequestsPerSecond = 5;
+        private int anonymousBurst = 10;
+        private Duration idleTimeout = Duration.ofMinutes(10);
+        private long maxClients = 100_000;
+        private int defaultCost = 1;
+        private List<EndpointCost> costs = new ArrayList<>();
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public double getAnonymousRequestsPerSecond() {
+            return anonymousRequestsPerSecond;
+        }
+
+        public void setAnonymousRequestsPerSecond(double anonymousRequestsPerSecond) {
+            this.anonymousRequestsPerSecond = anonymousRequestsPerSecond;
+        }
+
+        public int getAnonymousBurst() {
+            return anonymousBurst;
+        }
+
+        public void setAnonymousBurst(int anonymousBurst) {
+            this.anonymousBurst = anonymousBurst;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+
+        public long getMaxClients() {
+            return maxClients;
+        }
+
+        public void setMaxClients(long maxClients) {
+            this.maxClients = maxClients;
+        }
+
+        public int getDefaultCost() {
+            return defaultCost;
+        }
+
+        public void setDefaultCost(int defaultCost) {
+            this.defaultCost = defaultCost;
+        }
+
+        public List<EndpointCost> getCosts() {
+            return costs;
+        }
+
+        public void setCosts(List<EndpointCost> costs) {
+            this.costs = costs;
+        }
+    }
+
+    public static class EndpointCost {
+
+        /** Ant-style pattern relative to the context path, e.g. {@code /tasks/filter/**}. */
+        private String pattern;
+
+        /** HTTP method to match; any method when empty. */
+        private String method;
+
+        private int cost = 1;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        public void setCost(int cost) {
+            this.cost = cost;
+        }
+    }
+}
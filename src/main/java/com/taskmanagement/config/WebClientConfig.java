@@ -1,18 +1,57 @@
 package com.taskmanagement.config;
 
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class WebClientConfig {
 
+    /**
+     * Client for external integrations. The connection pool and the pending-acquire
+     * queue are bounded, and every phase of a call (connect, response, read, write)
+     * has a timeout, so a slow upstream fails calls instead of holding them open.
+     * Built from Boot's builder so {@code http.client.requests} metrics are recorded
+     * per upstream host.
+     */
     @Bean
-    public WebClient webClient() {
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder builder,
+            @Value("${application.external-api.http.max-connections}") int maxConnections,
+            @Value("${application.external-api.http.pending-acquire-max}") int pendingAcquireMax,
+            @Value("${application.external-api.http.pending-acquire-timeout}") Duration pendingAcquireTimeout,
+            @Value("${application.external-api.http.max-idle-time}") Duration maxIdleTime,
+            @Value("${application.external-api.http.connect-timeout}") Duration connectTimeout,
+            @Value("${application.external-api.http.response-timeout}") Duration responseTimeout) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("external-api")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout)
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new ReadTimeoutHandler(responseTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                        .addHandlerLast(new WriteTimeoutHandler(responseTimeout.toMillis(), TimeUnit.MILLISECONDS)));
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .codecs(configurer -> configurer
                         .defaultCodecs()
-                        .maxInMemorySize(16 * 1024 * 1024))
+                        .maxInMemorySize(1024 * 1024))
                 .build();
     }
 }
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -51,4 +52,12 @@ public class AnalyticsController {
         Map<String, Object> stats = analyticsService.getOverallStatistics();
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
+
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild statistics", description = "Recompute the materialized task statistics from the tasks collection (admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildStatistics() {
+        int scopes = analyticsService.rebuildStatistics();
+        return ResponseEntity.ok(ApiResponse.success("Statistics rebuilt successfully", Map.of("scopes", scopes)));
+    }
 }
@@ -1,16 +1,30 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.ApiResponse;
-import com.taskmanagement.model.FileDocument;
+import com.taskmanagement.dto.FileContent;
+import com.taskmanagement.dto.FileResponse;
+import com.taskmanagement.dto.UploadSessionRequest;
+import com.taskmanagement.dto.UploadSessionResponse;
+import com.taskmanagement.service.ChunkedUploadService;
 import com.taskmanagement.service.FileStorageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -20,43 +34,113 @@ import java.util.List;
 public class FileController {
 
     private final FileStorageService fileStorageService;
+    private final ChunkedUploadService chunkedUploadService;
 
-    public FileController(FileStorageService fileStorageService) {
+    public FileController(FileStorageService fileStorageService, ChunkedUploadService chunkedUploadService) {
         this.fileStorageService = fileStorageService;
+        this.chunkedUploadService = chunkedUploadService;
     }
 
     @PostMapping("/upload")
     @Operation(summary = "Upload file", description = "Upload a file and attach it to a task")
-    public ResponseEntity<ApiResponse<FileDocument>> uploadFile(
+    public ResponseEntity<ApiResponse<FileResponse>> uploadFile(
             @RequestParam("file") MultipartFile file,
             @RequestParam("taskId") String taskId) {
-        FileDocument fileDocument = fileStorageService.uploadFile(file, taskId);
+        FileResponse fileResponse = fileStorageService.uploadFile(file, taskId);
         return ResponseEntity
                 .status(HttpStatus.CREATED)
-                .body(ApiResponse.success("File uploaded successfully", fileDocument));
+                .body(ApiResponse.success("File uploaded successfully", fileResponse));
+    }
+
+    @PostMapping("/upload-sessions")
+    @Operation(summary = "Start chunked upload",
+            description = "Start a resumable upload for files larger than the multipart limit")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> startUpload(
+            @Valid @RequestBody UploadSessionRequest request) {
+        UploadSessionResponse upload = chunkedUploadService.initiate(request);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Upload started", upload));
+    }
+
+    @GetMapping("/upload-sessions/{uploadId}")
+    @Operation(summary = "Get chunked upload", description = "Get the offset to resume a chunked upload from")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> getUpload(@PathVariable String uploadId) {
+        return ResponseEntity.ok(ApiResponse.success(chunkedUploadService.getUpload(uploadId)));
+    }
+
+    @PutMapping(value = "/upload-sessions/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Upload chunk",
+            description = "Write the request body at the given offset, which must equal the bytes received so far")
+    public ResponseEntity<ApiResponse<UploadSessionResponse>> uploadChunk(
+            @PathVariable String uploadId,
+            @RequestParam long offset,
+            HttpServletRequest request) throws IOException {
+        UploadSessionResponse upload = chunkedUploadService.writeChunk(
+                uploadId, offset, request.getContentLengthLong(), request.getInputStream());
+        return ResponseEntity.ok(ApiResponse.success(upload));
+    }
+
+    @PostMapping("/upload-sessions/{uploadId}/complete")
+    @Operation(summary = "Complete chunked upload", description = "Attach a fully received upload to its task")
+    public ResponseEntity<ApiResponse<FileResponse>> completeUpload(@PathVariable String uploadId) {
+        FileResponse fileResponse = chunkedUploadService.complete(uploadId);
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(ApiResponse.success("File uploaded successfully", fileResponse));
+    }
+
+    @DeleteMapping("/upload-sessions/{uploadId}")
+    @Operation(summary = "Abort chunked upload", description = "Discard a chunked upload and its received bytes")
+    public ResponseEntity<ApiResponse<Void>> abortUpload(@PathVariable String uploadId) {
+        chunkedUploadService.abort(uploadId);
+        return ResponseEntity.ok(ApiResponse.success("Upload aborted", null));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get file by ID", description = "Retrieve file metadata by ID")
-    public ResponseEntity<ApiResponse<FileDocument>> getFileById(@PathVariable String id) {
-        FileDocument fileDocument = fileStorageService.getFileById(id);
-        return ResponseEntity.ok(ApiResponse.success(fileDocument));
+    public ResponseEntity<ApiResponse<FileResponse>> getFileById(@PathVariable String id) {
+        FileResponse fileResponse = fileStorageService.getFileById(id);
+        return ResponseEntity.ok(ApiResponse.success(fileResponse));
+    }
+
+    @GetMapping("/{id}/content")
+    @Operation(summary = "Download file",
+            description = "Stream file content from disk. Supports Range requests (206) and conditional GETs (304)")
+    public ResponseEntity<Resource> downloadFile(@PathVariable String id, WebRequest webRequest) {
+        FileContent content = fileStorageService.getFileContent(id);
+
+        // Writes ETag/Last-Modified and answers If-None-Match/If-Modified-Since with 304, If-Match with 412
+        if (webRequest.checkNotModified(content.getETag(), content.getLastModified())) {
+            return null;
+        }
+
+        // A Resource body lets Spring turn a Range header into ResourceRegions (206, multipart/byteranges
+        // or 416) that are copied from the file channel in small chunks rather than loaded into memory
+        return ResponseEntity.ok()
+                .contentType(content.getContentType())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(content.getFileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(content.getResource());
     }
 
     @GetMapping
     @Operation(summary = "Get all files", description = "Retrieve all files with pagination")
-    public ResponseEntity<ApiResponse<org.springframework.data.domain.Page<FileDocument>>> getAllFiles(
+    public ResponseEntity<ApiResponse<org.springframework.data.domain.Page<FileResponse>>> getAllFiles(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        org.springframework.data.domain.Page<FileDocument> files = fileStorageService.getAllFiles(pageable);
+        org.springframework.data.domain.Page<FileResponse> files = fileStorageService.getAllFiles(pageable);
         return ResponseEntity.ok(ApiResponse.success(files));
     }
 
     @GetMapping("/task/{taskId}")
     @Operation(summary = "Get files by task", description = "Retrieve all files attached to a task")
-    public ResponseEntity<ApiResponse<List<FileDocument>>> getFilesByTask(@PathVariable String taskId) {
-        List<FileDocument> files = fileStorageService.getFilesByTask(taskId);
+    public ResponseEntity<ApiResponse<List<FileResponse>>> getFilesByTask(@PathVariable String taskId) {
+        List<FileResponse> files = fileStorageService.getFilesByTask(taskId);
         return ResponseEntity.ok(ApiResponse.success(files));
     }
 
@@ -1,14 +1,18 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.ApiResponse;
+import com.taskmanagement.dto.BatchCurrencyConversionRequest;
+import com.taskmanagement.dto.CurrencyConversionResponse;
 import com.taskmanagement.service.ExternalApiService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
-import java.util.Map;
+import java.util.List;
 
 @RestController
 @RequestMapping("/integrations")
@@ -23,12 +27,20 @@ public class IntegrationController {
     }
 
     @GetMapping("/currency/convert")
-    @Operation(summary = "Convert currency", description = "Convert amount from one currency to another using external API")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> convertCurrency(
+    @Operation(summary = "Convert currency", description = "Convert amount from one currency to another using cached exchange rates")
+    public Mono<ResponseEntity<ApiResponse<CurrencyConversionResponse>>> convertCurrency(
             @RequestParam String from,
             @RequestParam String to,
             @RequestParam Double amount) {
-        Map<String, Object> result = externalApiService.convertCurrency(from, to, amount);
-        return ResponseEntity.ok(ApiResponse.success(result));
+        return externalApiService.convertCurrency(from, to, amount)
+                .map(result -> ResponseEntity.ok(ApiResponse.success(result)));
+    }
+
+    @PostMapping("/currency/convert/batch")
+    @Operation(summary = "Convert currencies in batch", description = "Convert up to 1000 amounts in one call; each distinct source currency is resolved once")
+    public Mono<ResponseEntity<ApiResponse<List<CurrencyConversionResponse>>>> convertCurrencies(
+            @Valid @RequestBody BatchCurrencyConversionRequest request) {
+        return externalApiService.convertCurrencies(request.getConversions())
+                .map(results -> ResponseEntity.ok(ApiResponse.success(results)));
     }
 }
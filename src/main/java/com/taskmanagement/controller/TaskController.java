@@ -1,6 +1,7 @@
 package com.taskmanagement.controller;
 
 import com.taskmanagement.dto.ApiResponse;
+import com.taskmanagement.dto.CursorPage;
 import com.taskmanagement.dto.TaskFilterRequest;
 import com.taskmanagement.dto.TaskRequest;
 import com.taskmanagement.dto.TaskResponse;
@@ -62,13 +63,32 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "Get all tasks by cursor", description = "Retrieve all tasks using keyset pagination; pass the returned nextCursor to fetch the following page")
+    public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> getTasksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "DESC") String sortDirection) {
+        CursorPage<TaskResponse> response = taskService.getTasksByCursor(cursor, size, sortBy, sortDirection);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PostMapping("/filter")
-    @Operation(summary = "Filter tasks", description = "Advanced filtering of tasks by multiple criteria")
+    @Operation(summary = "Filter tasks", description = "Advanced filtering of tasks by multiple criteria; countMode selects EXACT, ESTIMATED or NONE totals")
     public ResponseEntity<ApiResponse<Page<TaskResponse>>> filterTasks(@RequestBody TaskFilterRequest filter) {
         Page<TaskResponse> response = taskService.filterTasks(filter);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    @PostMapping("/filter/cursor")
+    @Operation(summary = "Filter tasks by cursor", description = "Advanced filtering of tasks using keyset pagination; page is ignored in favour of cursor")
+    public ResponseEntity<ApiResponse<CursorPage<TaskResponse>>> filterTasksByCursor(
+            @RequestBody TaskFilterRequest filter) {
+        CursorPage<TaskResponse> response = taskService.filterTasksByCursor(filter);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update task", description = "Update an existing task")
     public ResponseEntity<ApiResponse<TaskResponse>> updateTask(
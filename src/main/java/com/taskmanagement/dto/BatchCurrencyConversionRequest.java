@@ -0,0 +1,22 @@
+package com.taskmanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchCurrencyConversionRequest {
+
+    @NotEmpty(message = "At least one conversion is required")
+    @Size(max = 1000, message = "At most 1000 conversions per request")
+    private List<@Valid CurrencyConversionRequest> conversions;
+
+    public List<CurrencyConversionRequest> getConversions() {
+        return conversions;
+    }
+
+    public void setConversions(List<CurrencyConversionRequest> conversions) {
+        this.conversions = conversions;
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanagement.dto;
+
+/**
+ * How a paged listing computes its total element count.
+ */
+public enum CountMode {
+    /** Run an exact count for every page. */
+    EXACT,
+    /** Serve a recently computed count for the same filter, recounting once it expires. */
+    ESTIMATED,
+    /** Skip counting; probe one extra row to tell whether a next page exists. */
+    NONE
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+public class CurrencyConversionRequest {
+
+    @NotBlank(message = "Source currency is required")
+    private String from;
+
+    @NotBlank(message = "Target currency is required")
+    private String to;
+
+    @NotNull(message = "Amount is required")
+    private Double amount;
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public Double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(Double amount) {
+        this.amount = amount;
+    }
+}
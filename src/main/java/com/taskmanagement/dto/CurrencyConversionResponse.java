@@ -0,0 +1,75 @@
+package com.taskmanagement.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class CurrencyConversionResponse {
+
+    private String from;
+    private String to;
+    private BigDecimal amount;
+    private BigDecimal rate;
+    private BigDecimal result;
+    private LocalDateTime ratesAsOf;
+
+    public CurrencyConversionResponse() {
+    }
+
+    public CurrencyConversionResponse(String from, String to, BigDecimal amount, BigDecimal rate, BigDecimal result,
+            LocalDateTime ratesAsOf) {
+        this.from = from;
+        this.to = to;
+        this.amount = amount;
+        this.rate = rate;
+        this.result = result;
+        this.ratesAsOf = ratesAsOf;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public void setFrom(String from) {
+        this.from = from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public void setTo(String to) {
+        this.to = to;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public BigDecimal getResult() {
+        return result;
+    }
+
+    public void setResult(BigDecimal result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getRatesAsOf() {
+        return ratesAsOf;
+    }
+
+    public void setRatesAsOf(LocalDateTime ratesAsOf) {
+        this.ratesAsOf = ratesAsOf;
+    }
+}
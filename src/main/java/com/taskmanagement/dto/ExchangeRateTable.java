@@ -0,0 +1,33 @@
+package com.taskmanagement.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * All rates quoted against one base currency, as fetched in a single upstream call.
+ */
+public class ExchangeRateTable {
+
+    private final String base;
+    private final Map<String, BigDecimal> rates;
+    private final LocalDateTime fetchedAt;
+
+    public ExchangeRateTable(String base, Map<String, BigDecimal> rates, LocalDateTime fetchedAt) {
+        this.base = base;
+        this.rates = rates;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public String getBase() {
+        return base;
+    }
+
+    public Map<String, BigDecimal> getRates() {
+        return rates;
+    }
+
+    public LocalDateTime getFetchedAt() {
+        return fetchedAt;
+    }
+}
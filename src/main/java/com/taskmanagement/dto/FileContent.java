@@ -0,0 +1,52 @@
+package com.taskmanagement.dto;
+
+import org.springframework.core.io.Resource;
+import org.springframework.http.MediaType;
+
+/**
+ * Stored file content plus the validators needed to serve it: the on-disk
+ * resource, its media type and the ETag/Last-Modified pair for conditional GETs.
+ */
+public class FileContent {
+
+    private final Resource resource;
+    private final String fileName;
+    private final MediaType contentType;
+    private final long size;
+    private final long lastModified;
+    private final String eTag;
+
+    public FileContent(Resource resource, String fileName, MediaType contentType, long size, long lastModified,
+            String eTag) {
+        this.resource = resource;
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.eTag = eTag;
+    }
+
+    public Resource getResource() {
+        return resource;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public MediaType getContentType() {
+        return contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public String getETag() {
+        return eTag;
+    }
+}
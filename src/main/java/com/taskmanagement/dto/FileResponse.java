@@ -0,0 +1,73 @@
+package com.taskmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public class FileResponse {
+
+    private String id;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String taskId;
+    private UserSummary uploadedBy;
+    private LocalDateTime uploadedAt;
+
+    public FileResponse() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    public UserSummary getUploadedBy() {
+        return uploadedBy;
+    }
+
+    public void setUploadedBy(UserSummary uploadedBy) {
+        this.uploadedBy = uploadedBy;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+}
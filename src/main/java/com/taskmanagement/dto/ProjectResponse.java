@@ -17,6 +17,9 @@ public class ProjectResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Map<String, Long> taskStatistics;
+    private long totalTasks;
+    private long completedTasks;
+    private double progress;
 
     public ProjectResponse() {
     }
@@ -108,4 +111,28 @@ public class ProjectResponse {
     public void setTaskStatistics(Map<String, Long> taskStatistics) {
         this.taskStatistics = taskStatistics;
     }
+
+    public long getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(long totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public void setCompletedTasks(long completedTasks) {
+        this.completedTasks = completedTasks;
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+
+    public void setProgress(double progress) {
+        this.progress = progress;
+    }
 }
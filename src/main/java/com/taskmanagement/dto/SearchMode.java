@@ -0,0 +1,11 @@
+package com.taskmanagement.dto;
+
+/**
+ * How a task search term is matched against title and description.
+ */
+public enum SearchMode {
+    /** Case-insensitive substring match, narrowed through the trigram index. */
+    SUBSTRING,
+    /** Word match through the text index, ordered by relevance. */
+    TEXT
+}
@@ -16,10 +16,13 @@ public class TaskFilterRequest {
     private LocalDateTime createdFrom;
     private LocalDateTime createdTo;
     private String searchTerm;
+    private SearchMode searchMode = SearchMode.SUBSTRING;
     private int page = 0;
     private int size = 10;
     private String sortBy = "createdAt";
     private String sortDirection = "DESC";
+    private String cursor;
+    private CountMode countMode = CountMode.EXACT;
 
     public TaskFilterRequest() {
     }
@@ -96,6 +99,14 @@ public class TaskFilterRequest {
         this.searchTerm = searchTerm;
     }
 
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    public void setSearchMode(SearchMode searchMode) {
+        this.searchMode = searchMode;
+    }
+
     public int getPage() {
         return page;
     }
@@ -127,4 +138,20 @@ public class TaskFilterRequest {
     public void setSortDirection(String sortDirection) {
         this.sortDirection = sortDirection;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    public void setCountMode(CountMode countMode) {
+        this.countMode = countMode;
+    }
 }
@@ -0,0 +1,46 @@
+package com.taskmanagement.event;
+
+/**
+ * Tells other nodes to drop one entry of a local cache, or the whole cache when
+ * {@code key} is null. {@code origin} identifies the sending node so it can skip
+ * its own messages.
+ */
+public class CacheInvalidationMessage {
+
+    private String origin;
+    private String cacheName;
+    private String key;
+
+    public CacheInvalidationMessage() {
+    }
+
+    public CacheInvalidationMessage(String origin, String cacheName, String key) {
+        this.origin = origin;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+}
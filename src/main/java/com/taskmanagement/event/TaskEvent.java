@@ -0,0 +1,144 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.Priority;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatus;
+
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change notification published on the task events topic. It carries the task's
+ * state right after the change, plus the previous value of whatever the event
+ * changed, so consumers can maintain counters without reading the task back.
+ * {@code eventId} is assigned once at creation and survives every redelivery, so
+ * consumers can recognise an event they have already applied.
+ */
+public class TaskEvent {
+
+    private String eventId;
+    private TaskEventType type;
+    private String taskId;
+    private String projectId;
+    private String assigneeId;
+    private String previousAssigneeId;
+    private TaskStatus status;
+    private TaskStatus previousStatus;
+    private Priority priority;
+    private Priority previousPriority;
+    private String actorId;
+    private LocalDateTime occurredAt;
+
+    public TaskEvent() {
+        this.eventId = new ObjectId().toHexString();
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public static TaskEvent of(TaskEventType type, Task task) {
+        TaskEvent event = new TaskEvent();
+        event.setType(type);
+        event.setTaskId(task.getId());
+        event.setProjectId(task.getProjectId());
+        event.setAssigneeId(task.getAssigneeId());
+        event.setStatus(task.getStatus());
+        event.setPriority(task.getPriority());
+        return event;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public TaskEventType getType() {
+        return type;
+    }
+
+    public void setType(TaskEventType type) {
+        this.type = type;
+    }
+
+    public String getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(String taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(String projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(String assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getPreviousAssigneeId() {
+        return previousAssigneeId;
+    }
+
+    public void setPreviousAssigneeId(String previousAssigneeId) {
+        this.previousAssigneeId = previousAssigneeId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(TaskStatus previousStatus) {
+        this.previousStatus = previousStatus;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Priority getPreviousPriority() {
+        return previousPriority;
+    }
+
+    public void setPreviousPriority(Priority previousPriority) {
+        this.previousPriority = previousPriority;
+    }
+
+    public String getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(String actorId) {
+        this.actorId = actorId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
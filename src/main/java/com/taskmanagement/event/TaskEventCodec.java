@@ -0,0 +1,171 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.Priority;
+import com.taskmanagement.model.TaskStatus;
+import org.bson.types.ObjectId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary wire format for {@link TaskEvent}.
+ *
+ * <pre>
+ * magic:u8  schemaId:u8  type:u8  presence:u16  [present fields, in encode() order]
+ * </pre>
+ *
+ * Ids that are Mongo ObjectIds are written as their 12 raw bytes, enums as their
+ * ordinal and {@code occurredAt} as UTC epoch millis. The enums involved are
+ * therefore append-only; an ordinal this build does not know decodes as
+ * {@code null}. A new schema bumps {@link #CURRENT_SCHEMA_ID} and appends fields
+ * behind new presence bits after {@code occurredAt}; decoders accept any schema id
+ * from 1 up, ignore presence bits they do not know and skip trailing bytes, so older
+ * consumers keep reading newer events.
+ *
+ * <p>Schema 2 appended {@code eventId}; schema 1 payloads decode with a null id.
+ */
+public final class TaskEventCodec {
+
+    public static final byte MAGIC = 0x54;
+    public static final byte CURRENT_SCHEMA_ID = 2;
+
+    private static final int PROJECT_ID = 1;
+    private static final int ASSIGNEE_ID = 1 << 1;
+    private static final int PREVIOUS_ASSIGNEE_ID = 1 << 2;
+    private static final int STATUS = 1 << 3;
+    private static final int PREVIOUS_STATUS = 1 << 4;
+    private static final int PRIORITY = 1 << 5;
+    private static final int PREVIOUS_PRIORITY = 1 << 6;
+    private static final int ACTOR_ID = 1 << 7;
+    private static final int OCCURRED_AT = 1 << 8;
+    private static final int TASK_ID = 1 << 9;
+    private static final int EVENT_ID = 1 << 10;
+
+    private static final byte ID_OBJECT_ID = 0;
+    private static final byte ID_STRING = 1;
+
+    private static final TaskEventType[] TYPES = TaskEventType.values();
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private TaskEventCodec() {
+    }
+
+    public static byte[] encode(TaskEvent event) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(MAGIC);
+            out.writeByte(CURRENT_SCHEMA_ID);
+            out.writeByte(event.getType().ordinal());
+            out.writeShort(presenceOf(event));
+
+            writeIdIfPresent(out, event.getTaskId());
+            writeIdIfPresent(out, event.getProjectId());
+            writeIdIfPresent(out, event.getAssigneeId());
+            writeIdIfPresent(out, event.getPreviousAssigneeId());
+            writeEnumIfPresent(out, event.getStatus());
+            writeEnumIfPresent(out, event.getPreviousStatus());
+            writeEnumIfPresent(out, event.getPriority());
+            writeEnumIfPresent(out, event.getPreviousPriority());
+            writeIdIfPresent(out, event.getActorId());
+            if (event.getOccurredAt() != null) {
+                out.writeLong(event.getOccurredAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+            writeIdIfPresent(out, event.getEventId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static TaskEvent decode(byte[] data) {
+        if (data == null || data.length < 2 || data[0] != MAGIC) {
+            throw new IllegalArgumentException("Not a task event payload");
+        }
+        // Newer schemas only append fields, so their known prefix decodes as this one
+        int schemaId = data[1] & 0xFF;
+        if (schemaId < 1) {
+            throw new IllegalArgumentException("Unsupported task event schema " + schemaId);
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, 2, data.length - 2))) {
+            TaskEvent event = new TaskEvent();
+            event.setType(enumAt(TYPES, in.readUnsignedByte()));
+            int presence = in.readUnsignedShort();
+
+            // Field order matches encode(); the presence bits only say which are there
+            if ((presence & TASK_ID) != 0) event.setTaskId(readId(in));
+            if ((presence & PROJECT_ID) != 0) event.setProjectId(readId(in));
+            if ((presence & ASSIGNEE_ID) != 0) event.setAssigneeId(readId(in));
+            if ((presence & PREVIOUS_ASSIGNEE_ID) != 0) event.setPreviousAssigneeId(readId(in));
+            if ((presence & STATUS) != 0) event.setStatus(enumAt(STATUSES, in.readUnsignedByte()));
+            if ((presence & PREVIOUS_STATUS) != 0) event.setPreviousStatus(enumAt(STATUSES, in.readUnsignedByte()));
+            if ((presence & PRIORITY) != 0) event.setPriority(enumAt(PRIORITIES, in.readUnsignedByte()));
+            if ((presence & PREVIOUS_PRIORITY) != 0) event.setPreviousPriority(enumAt(PRIORITIES, in.readUnsignedByte()));
+            if ((presence & ACTOR_ID) != 0) event.setActorId(readId(in));
+            event.setOccurredAt((presence & OCCURRED_AT) != 0
+                    ? LocalDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneOffset.UTC)
+                    : null);
+            event.setEventId((presence & EVENT_ID) != 0 ? readId(in) : null);
+            return event;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Truncated task event payload", e);
+        }
+    }
+
+    private static int presenceOf(TaskEvent event) {
+        int presence = 0;
+        if (event.getTaskId() != null) presence |= TASK_ID;
+        if (event.getProjectId() != null) presence |= PROJECT_ID;
+        if (event.getAssigneeId() != null) presence |= ASSIGNEE_ID;
+        if (event.getPreviousAssigneeId() != null) presence |= PREVIOUS_ASSIGNEE_ID;
+        if (event.getStatus() != null) presence |= STATUS;
+        if (event.getPreviousStatus() != null) presence |= PREVIOUS_STATUS;
+        if (event.getPriority() != null) presence |= PRIORITY;
+        if (event.getPreviousPriority() != null) presence |= PREVIOUS_PRIORITY;
+        if (event.getActorId() != null) presence |= ACTOR_ID;
+        if (event.getOccurredAt() != null) presence |= OCCURRED_AT;
+        if (event.getEventId() != null) presence |= EVENT_ID;
+        return presence;
+    }
+
+    private static void writeIdIfPresent(DataOutputStream out, String id) throws IOException {
+        if (id == null) {
+            return;
+        }
+        if (ObjectId.isValid(id)) {
+            out.writeByte(ID_OBJECT_ID);
+            out.write(new ObjectId(id).toByteArray());
+        } else {
+            out.writeByte(ID_STRING);
+            out.writeUTF(id);
+        }
+    }
+
+    private static String readId(DataInputStream in) throws IOException {
+        byte kind = in.readByte();
+        if (kind == ID_OBJECT_ID) {
+            byte[] bytes = new byte[12];
+            in.readFully(bytes);
+            return new ObjectId(bytes).toHexString();
+        }
+        return in.readUTF();
+    }
+
+    private static void writeEnumIfPresent(DataOutputStream out, Enum<?> value) throws IOException {
+        if (value != null) {
+            out.writeByte(value.ordinal());
+        }
+    }
+
+    private static <E> E enumAt(E[] values, int ordinal) {
+        return ordinal < values.length ? values[ordinal] : null;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanagement.event;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+public class TaskEventDeserializer implements Deserializer<TaskEvent> {
+
+    @Override
+    public TaskEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return TaskEventCodec.decode(data);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException("Could not decode task event from " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskmanagement.event;
+
+import java.util.List;
+
+/**
+ * Consumer of task events, independent of the transport that delivers them.
+ * Batches are in publication order; implementations should apply them in order.
+ * Delivery is at least once, including replays of part of a failed batch, so
+ * implementations must skip events whose {@code eventId} they have already applied.
+ */
+public interface TaskEventHandler {
+
+    void onEvents(List<TaskEvent> events);
+}
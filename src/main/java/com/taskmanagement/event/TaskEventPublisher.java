@@ -0,0 +1,15 @@
+package com.taskmanagement.event;
+
+import java.util.List;
+
+/**
+ * Hands task events to whichever transport is configured with
+ * {@code application.events.transport}: {@code kafka} (outbox relayed to the task
+ * events topic) or {@code in-process} (ring buffer dispatched on this node).
+ * Either way the registered {@link TaskEventHandler}s see every event once, in
+ * publication order.
+ */
+public interface TaskEventPublisher {
+
+    void publish(List<TaskEvent> events);
+}
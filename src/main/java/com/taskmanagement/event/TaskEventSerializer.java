@@ -0,0 +1,11 @@
+package com.taskmanagement.event;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+public class TaskEventSerializer implements Serializer<TaskEvent> {
+
+    @Override
+    public byte[] serialize(String topic, TaskEvent event) {
+        return event == null ? null : TaskEventCodec.encode(event);
+    }
+}
@@ -0,0 +1,10 @@
+package com.taskmanagement.event;
+
+public enum TaskEventType {
+    TASK_CREATED,
+    TASK_ASSIGNED,
+    TASK_STATUS_CHANGED,
+    TASK_PRIORITY_CHANGED,
+    TASK_REASSIGNED,
+    TASK_DELETED
+}
@@ -0,0 +1,164 @@
+package com.taskmanagement.migration;
+
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Startup job that rewrites task documents still holding {@code @DBRef} links to
+ * project, assignee and creator into the id + embedded summary layout. Documents
+ * are walked in {@code _id} order in fixed-size batches; each batch costs one read,
+ * one lookup per referenced collection and one unordered bulk write.
+ *
+ * <p>{@link com.taskmanagement.model.Task} no longer maps the legacy fields, so any
+ * full-document save of an unmigrated task would drop its links. The job therefore
+ * runs by default and completes once all singletons exist, before the web server,
+ * listeners and schedulers start writing tasks. It is idempotent: once no task
+ * holds a legacy field, a run finds nothing to do.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.migration.task-references", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class TaskReferenceMigration implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReferenceMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public TaskReferenceMigration(MongoTemplate mongoTemplate,
+            @Value("${application.migration.task-references.batch-size}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MongoCollection<Document> tasks = mongoTemplate.getCollection("tasks");
+        Bson legacy = Filters.or(
+                Filters.exists("project"),
+                Filters.exists("assignee"),
+                Filters.exists("creator"));
+
+        log.info("Starting task reference migration with batch size {}", batchSize);
+
+        Object lastId = null;
+        long migrated = 0;
+
+        while (true) {
+            Bson filter = lastId == null ? legacy : Filters.and(legacy, Filters.gt("_id", lastId));
+            List<Document> batch = tasks.find(filter)
+                    .sort(Sorts.ascending("_id"))
+                    .limit(batchSize)
+                    .into(new ArrayList<>());
+
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            migrated += migrateBatch(tasks, batch);
+            lastId = batch.get(batch.size() - 1).get("_id");
+            log.info("Task reference migration progress: {} documents migrated", migrated);
+        }
+
+        log.info("Task reference migration finished: {} documents migrated", migrated);
+    }
+
+    private long migrateBatch(MongoCollection<Document> tasks, List<Document> batch) {
+        Set<Object> projectIds = new HashSet<>();
+        Set<Object> userIds = new HashSet<>();
+
+        for (Document task : batch) {
+            addReferenceId(task, "project", projectIds);
+            addReferenceId(task, "assignee", userIds);
+            addReferenceId(task, "creator", userIds);
+        }
+
+        Map<String, Document> projects = loadSummaries("projects", projectIds, "name");
+        Map<String, Document> users = loadSummaries("users", userIds, "username", "fullName");
+
+        List<WriteModel<Document>> updates = new ArrayList<>(batch.size());
+        for (Document task : batch) {
+            Document set = new Document();
+            Document unset = new Document();
+
+            convertReference(task, "project", "projectId", "projectSummary", projects, set, unset);
+            convertReference(task, "assignee", "assigneeId", "assigneeSummary", users, set, unset);
+            convertReference(task, "creator", "creatorId", "creatorSummary", users, set, unset);
+
+            Document update = new Document("$unset", unset);
+            if (!set.isEmpty()) {
+                update.append("$set", set);
+            }
+            updates.add(new UpdateOneModel<>(Filters.eq("_id", task.get("_id")), update));
+        }
+
+        return tasks.bulkWrite(updates, new BulkWriteOptions().ordered(false)).getModifiedCount();
+    }
+
+    private void addReferenceId(Document task, String field, Set<Object> ids) {
+        if (task.get(field) instanceof DBRef ref) {
+            ids.add(ref.getId());
+        }
+    }
+
+    private void convertReference(Document task, String legacyField, String idField, String summaryField,
+            Map<String, Document> summaries, Document set, Document unset) {
+        if (!task.containsKey(legacyField)) {
+            return;
+        }
+
+        unset.append(legacyField, "");
+
+        if (task.get(legacyField) instanceof DBRef ref) {
+            String id = ref.getId().toString();
+            set.append(idField, id);
+
+            Document summary = summaries.get(id);
+            if (summary != null) {
+                set.append(summaryField, summary);
+            }
+        }
+    }
+
+    private Map<String, Document> loadSummaries(String collection, Set<Object> ids, String... fields) {
+        Map<String, Document> summaries = new HashMap<>();
+        if (ids.isEmpty()) {
+            return summaries;
+        }
+
+        mongoTemplate.getCollection(collection)
+                .find(Filters.in("_id", ids))
+                .projection(Projections.include(fields))
+                .forEach(source -> {
+                    Document summary = new Document();
+                    for (String field : fields) {
+                        summary.append(field, source.get(field));
+                    }
+                    summaries.put(source.get("_id").toString(), summary);
+                });
+
+        return summaries;
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskmanagement.migration;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.taskmanagement.util.TrigramTokenizer;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Startup job that backfills the {@code searchGrams} trigram array on task
+ * documents written before substring search was indexed. Batches are walked in
+ * {@code _id} order and written with unordered bulk updates. Substring search
+ * only matches tasks that have grams, so the job runs by default and completes
+ * before the web server starts; re-running it only touches documents that still
+ * lack grams, found through the {@code searchGrams} index.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.migration.task-search-grams", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class TaskSearchGramsMigration implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchGramsMigration.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final int batchSize;
+
+    public TaskSearchGramsMigration(MongoTemplate mongoTemplate,
+            @Value("${application.migration.task-search-grams.batch-size}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        MongoCollection<Document> tasks = mongoTemplate.getCollection("tasks");
+        // Missing or empty; unlike $exists/$size, $in on these values can use the searchGrams index
+        Bson missing = Filters.in("searchGrams", null, List.of());
+
+        log.info("Starting task search grams backfill with batch size {}", batchSize);
+
+        Object lastId = null;
+        long migrated = 0;
+
+        while (true) {
+            Bson filter = lastId == null ? missing : Filters.and(missing, Filters.gt("_id", lastId));
+            List<Document> batch = tasks.find(filter)
+                    .projection(Projections.include("title", "description"))
+                    .sort(Sorts.ascending("_id"))
+                    .limit(batchSize)
+                    .into(new ArrayList<>());
+
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            List<WriteModel<Document>> updates = new ArrayList<>(batch.size());
+            for (Document task : batch) {
+                List<String> grams = TrigramTokenizer.tokenize(task.getString("title"), task.getString("description"));
+                updates.add(new UpdateOneModel<>(Filters.eq("_id", task.get("_id")), Updates.set("searchGrams", grams)));
+            }
+
+            migrated += tasks.bulkWrite(updates, new BulkWriteOptions().ordered(false)).getModifiedCount();
+            lastId = batch.get(batch.size() - 1).get("_id");
+            log.info("Task search grams backfill progress: {} documents updated", migrated);
+        }
+
+        log.info("Task search grams backfill finished: {} documents updated", migrated);
+    }
+}
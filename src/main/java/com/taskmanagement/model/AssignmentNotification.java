@@ -0,0 +1,118 @@
+package com.taskmanagement.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task assignment waiting to be folded into the recipient's next digest email.
+ */
+@Document(collection = "assignment_notifications")
+@CompoundIndex(name = "recipient_createdAt", def = "{'recipient': 1, 'createdAt': 1}")
+public class AssignmentNotification {
+
+    @Id
+    private String id;
+
+    private String recipient;
+
+    private String recipientName;
+
+    private String taskTitle;
+
+    private String projectName;
+
+    private Priority priority;
+
+    private String claimId;
+
+    private LocalDateTime claimedAt;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public AssignmentNotification() {
+    }
+
+    public AssignmentNotification(String recipient, String recipientName, String taskTitle, String projectName,
+            Priority priority) {
+        this.recipient = recipient;
+        this.recipientName = recipientName;
+        this.taskTitle = taskTitle;
+        this.projectName = projectName;
+        this.priority = priority;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getRecipientName() {
+        return recipientName;
+    }
+
+    public void setRecipientName(String recipientName) {
+        this.recipientName = recipientName;
+    }
+
+    public String getTaskTitle() {
+        return taskTitle;
+    }
+
+    public void setTaskTitle(String taskTitle) {
+        this.taskTitle = taskTitle;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public String getClaimId() {
+        return claimId;
+    }
+
+    public void setClaimId(String claimId) {
+        this.claimId = claimId;
+    }
+
+    public LocalDateTime getClaimedAt() {
+        return claimedAt;
+    }
+
+    public void setClaimedAt(LocalDateTime claimedAt) {
+        this.claimedAt = claimedAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.model;
+
+/**
+ * Denormalized copy of the project fields a task needs for display, stored inline
+ * on the task document next to the referenced project id.
+ */
+public class EmbeddedProject {
+
+    private String name;
+
+    public EmbeddedProject() {
+    }
+
+    public EmbeddedProject(String name) {
+        this.name = name;
+    }
+
+    public static EmbeddedProject from(Project project) {
+        return project != null ? new EmbeddedProject(project.getName()) : null;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,40 @@
+package com.taskmanagement.model;
+
+/**
+ * Denormalized copy of the user fields a task needs for display, stored inline
+ * on the task document next to the referenced user id.
+ */
+public class EmbeddedUser {
+
+    private String username;
+
+    private String fullName;
+
+    public EmbeddedUser() {
+    }
+
+    public EmbeddedUser(String username, String fullName) {
+        this.username = username;
+        this.fullName = fullName;
+    }
+
+    public static EmbeddedUser from(User user) {
+        return user != null ? new EmbeddedUser(user.getUsername(), user.getFullName()) : null;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+}
@@ -20,10 +20,10 @@ public class FileDocument {
 
     private long size;
 
-    @DBRef
+    @DBRef(lazy = true)
     private User uploadedBy;
 
-    @DBRef
+    @DBRef(lazy = true)
     private Task task;
 
     private LocalDateTime uploadedAt;
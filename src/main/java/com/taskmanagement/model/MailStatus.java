@@ -0,0 +1,8 @@
+package com.taskmanagement.model;
+
+public enum MailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    FAILED
+}
@@ -0,0 +1,97 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.event.TaskEvent;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task event waiting to be relayed to Kafka. Written alongside the change that
+ * produced it and deleted once the broker has acknowledged it; the relay drains
+ * entries in {@code _id} order. The event is kept as a plain subdocument and only
+ * encoded to the wire format by the producer.
+ */
+@Document(collection = "outbox_events")
+public class OutboxEvent {
+
+    @Id
+    private String id;
+
+    private String topic;
+
+    private String messageKey;
+
+    private TaskEvent event;
+
+    private int attempts;
+
+    private String lastError;
+
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public OutboxEvent() {
+    }
+
+    public OutboxEvent(String topic, String messageKey, TaskEvent event) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.event = event;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    public void setMessageKey(String messageKey) {
+        this.messageKey = messageKey;
+    }
+
+    public TaskEvent getEvent() {
+        return event;
+    }
+
+    public void setEvent(TaskEvent event) {
+        this.event = event;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -18,10 +18,10 @@ public class Project {
 
     private String description;
 
-    @DBRef
+    @DBRef(lazy = true)
     private User owner;
 
-    @DBRef
+    @DBRef(lazy = true)
     private List<User> members = new ArrayList<>();
 
     private boolean archived = false;
@@ -3,7 +3,8 @@ package com.taskmanagement.model;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
-import org.springframework.data.mongodb.core.mapping.DBRef;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -12,27 +13,38 @@ import java.util.List;
 
 @Document(collection = "tasks")
 @CompoundIndexes({
-        @CompoundIndex(name = "project_status_idx", def = "{'project': 1, 'status': 1}"),
-        @CompoundIndex(name = "assignee_status_idx", def = "{'assignee': 1, 'status': 1}"),
-        @CompoundIndex(name = "project_dueDate_idx", def = "{'project': 1, 'dueDate': 1}")
+        @CompoundIndex(name = "projectId_status_idx", def = "{'projectId': 1, 'status': 1}"),
+        @CompoundIndex(name = "assigneeId_status_idx", def = "{'assigneeId': 1, 'status': 1}"),
+        @CompoundIndex(name = "projectId_dueDate_idx", def = "{'projectId': 1, 'dueDate': 1}"),
+        @CompoundIndex(name = "creatorId_idx", def = "{'creatorId': 1}"),
+        @CompoundIndex(name = "createdAt_id_idx", def = "{'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "projectId_createdAt_id_idx", def = "{'projectId': 1, 'createdAt': -1, '_id': -1}")
 })
 public class Task {
 
     @Id
     private String id;
 
+    @TextIndexed(weight = 3)
     private String title;
 
+    @TextIndexed
     private String description;
 
-    @DBRef
-    private Project project;
+    @Indexed
+    private List<String> searchGrams = new ArrayList<>();
 
-    @DBRef
-    private User assignee;
+    private String projectId;
 
-    @DBRef
-    private User creator;
+    private EmbeddedProject projectSummary;
+
+    private String assigneeId;
+
+    private EmbeddedUser assigneeSummary;
+
+    private String creatorId;
+
+    private EmbeddedUser creatorSummary;
 
     private TaskStatus status = TaskStatus.TODO;
 
@@ -83,28 +95,75 @@ public class Task {
         this.description = description;
     }
 
-    public Project getProject() {
-        return project;
+    public List<String> getSearchGrams() {
+        return searchGrams;
+    }
+
+    public void setSearchGrams(List<String> searchGrams) {
+        this.searchGrams = searchGrams;
+    }
+
+    public String getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(String projectId) {
+        this.projectId = projectId;
+    }
+
+    public EmbeddedProject getProjectSummary() {
+        return projectSummary;
+    }
+
+    public void setProjectSummary(EmbeddedProject projectSummary) {
+        this.projectSummary = projectSummary;
     }
 
     public void setProject(Project project) {
-        this.project = project;
+        this.projectId = project != null ? project.getId() : null;
+        this.projectSummary = EmbeddedProject.from(project);
+    }
+
+    public String getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(String assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public EmbeddedUser getAssigneeSummary() {
+        return assigneeSummary;
     }
 
-    public User getAssignee() {
-        return assignee;
+    public void setAssigneeSummary(EmbeddedUser assigneeSummary) {
+        this.assigneeSummary = assigneeSummary;
     }
 
     public void setAssignee(User assignee) {
-        this.assignee = assignee;
+        this.assigneeId = assignee != null ? assignee.getId() : null;
+        this.assigneeSummary = EmbeddedUser.from(assignee);
+    }
+
+    public String getCreatorId() {
+        return creatorId;
+    }
+
+    public void setCreatorId(String creatorId) {
+        this.creatorId = creatorId;
+    }
+
+    public EmbeddedUser getCreatorSummary() {
+        return creatorSummary;
     }
 
-    public User getCreator() {
-        return creator;
+    public void setCreatorSummary(EmbeddedUser creatorSummary) {
+        this.creatorSummary = creatorSummary;
     }
 
     public void setCreator(User creator) {
-        this.creator = creator;
+        this.creatorId = creator != null ? creator.getId() : null;
+        this.creatorSummary = EmbeddedUser.from(creator);
     }
 
     public TaskStatus getStatus() {
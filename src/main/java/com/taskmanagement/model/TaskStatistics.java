@@ -0,0 +1,88 @@
+package com.taskmanagement.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Materialized task counters for one scope: the whole system, a project or an
+ * assignee. Documents are keyed {@code global}, {@code project:<id>} and
+ * {@code assignee:<id>} and maintained with {@code $inc} from task events. They
+ * also hold an unmapped {@code appliedEvents} array that the event handler uses to
+ * skip redeliveries.
+ */
+@Document(collection = "task_statistics")
+public class TaskStatistics {
+
+    public static final String GLOBAL = "global";
+
+    @Id
+    private String id;
+
+    private long total;
+
+    private Map<String, Long> byStatus = new HashMap<>();
+
+    private Map<String, Long> byPriority = new HashMap<>();
+
+    private LocalDateTime updatedAt;
+
+    public TaskStatistics() {
+    }
+
+    public TaskStatistics(String id) {
+        this.id = id;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static String projectKey(String projectId) {
+        return "project:" + projectId;
+    }
+
+    public static String assigneeKey(String assigneeId) {
+        return "assignee:" + assigneeId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<String, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<String, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<String, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<String, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
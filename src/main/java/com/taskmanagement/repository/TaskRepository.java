@@ -1,10 +1,8 @@
 package com.taskmanagement.repository;
 
 import com.taskmanagement.model.Priority;
-import com.taskmanagement.model.Project;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.TaskStatus;
-import com.taskmanagement.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
@@ -17,22 +15,20 @@ import java.util.List;
 @Repository
 public interface TaskRepository extends MongoRepository<Task, String> {
 
-    Page<Task> findByProject(Project project, Pageable pageable);
+    Page<Task> findByProjectId(String projectId, Pageable pageable);
 
-    Page<Task> findByAssignee(User assignee, Pageable pageable);
+    Page<Task> findByAssigneeId(String assigneeId, Pageable pageable);
 
     Page<Task> findByStatus(TaskStatus status, Pageable pageable);
 
-    Page<Task> findByProjectAndStatus(Project project, TaskStatus status, Pageable pageable);
+    Page<Task> findByProjectIdAndStatus(String projectId, TaskStatus status, Pageable pageable);
 
-    Page<Task> findByAssigneeAndStatus(User assignee, TaskStatus status, Pageable pageable);
+    Page<Task> findByAssigneeIdAndStatus(String assigneeId, TaskStatus status, Pageable pageable);
 
-    List<Task> findByProjectAndStatusIn(Project project, List<TaskStatus> statuses);
+    List<Task> findByProjectIdAndStatusIn(String projectId, List<TaskStatus> statuses);
 
-    @Query("{ 'project.$id': ?0, 'status': ?1 }")
     long countByProjectIdAndStatus(String projectId, TaskStatus status);
 
-    @Query("{ 'assignee.$id': ?0, 'status': { $in: ?1 } }")
     List<Task> findByAssigneeIdAndStatusIn(String assigneeId, List<TaskStatus> statuses);
 
     @Query("{ 'dueDate': { $gte: ?0, $lte: ?1 } }")
@@ -41,7 +37,5 @@ public interface TaskRepository extends MongoRepository<Task, String> {
     @Query("{ 'priority': ?0, 'status': { $ne: 'COMPLETED' } }")
     List<Task> findByPriorityAndNotCompleted(Priority priority);
 
-    long countByProject(Project project);
-
-    long countByProjectAndStatus(Project project, TaskStatus status);
+    long countByProjectId(String projectId);
 }
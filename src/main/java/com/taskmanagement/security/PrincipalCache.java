@@ -0,0 +1,47 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the {@link UserPrincipal} for a verified token. Tokens carry the user id
+ * as a signed claim, so the principal is served from the bounded {@code principals}
+ * cache and the database is only hit on a miss. Users cannot be edited or disabled
+ * after registration, so entries are never evicted explicitly and simply expire
+ * with the cache's {@code expireAfterWrite}; a feature that changes users must evict
+ * here. Tokens issued before the id claim existed fall back to the username lookup.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final Cache principals;
+
+    public PrincipalCache(UserRepository userRepository, CustomUserDetailsService customUserDetailsService,
+            CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.customUserDetailsService = customUserDetailsService;
+        this.principals = cacheManager.getCache("principals");
+    }
+
+    public UserPrincipal resolve(Claims claims) {
+        String userId = claims.get(JwtTokenProvider.USER_ID_CLAIM, String.class);
+        if (userId == null) {
+            return (UserPrincipal) customUserDetailsService.loadUserByUsername(claims.getSubject());
+        }
+
+        UserPrincipal principal = principals.get(userId, () -> userRepository.findById(userId)
+                .map(UserPrincipal::new)
+                .orElse(null));
+
+        // Guard against a reused id claim pointing at a renamed account
+        if (principal != null && !principal.getUsername().equals(claims.getSubject())) {
+            return null;
+        }
+        return principal;
+    }
+}
@@ -1,16 +1,23 @@
 package com.taskmanagement.service;
 
-import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.model.Project;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatistics;
+import com.taskmanagement.model.User;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
-import org.springframework.data.mongodb.core.aggregation.AggregationResults;
-import org.springframework.data.mongodb.core.aggregation.GroupOperation;
-import org.springframework.data.mongodb.core.aggregation.MatchOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.FacetOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
@@ -19,107 +26,137 @@ import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
 public class AnalyticsService {
     private static final Logger log = LoggerFactory.getLogger(AnalyticsService.class);
 
-    private final TaskRepository taskRepository;
     private final MongoTemplate mongoTemplate;
+    private final TaskStatisticsService taskStatisticsService;
+    private final boolean readModelEnabled;
 
-    public AnalyticsService(TaskRepository taskRepository, MongoTemplate mongoTemplate) {
-        this.taskRepository = taskRepository;
+    public AnalyticsService(MongoTemplate mongoTemplate, TaskStatisticsService taskStatisticsService,
+            @Value("${application.analytics.read-model.enabled}") boolean readModelEnabled) {
         this.mongoTemplate = mongoTemplate;
+        this.taskStatisticsService = taskStatisticsService;
+        this.readModelEnabled = readModelEnabled;
     }
 
     public Map<String, Object> getProjectStatistics(String projectId) {
-        Map<String, Object> stats = new HashMap<>();
-
-        // Count tasks by status
-        MatchOperation matchProject = match(
-                org.springframework.data.mongodb.core.query.Criteria.where("project.$id").is(projectId));
-        GroupOperation groupByStatus = group("status").count().as("count");
-
-        Aggregation aggregation = newAggregation(matchProject, groupByStatus);
-        AggregationResults<Map> results = mongoTemplate.aggregate(aggregation, "tasks", Map.class);
-
-        Map<String, Long> statusCounts = new HashMap<>();
-        results.getMappedResults().forEach(result -> {
-            statusCounts.put(result.get("_id").toString(), ((Number) result.get("count")).longValue());
-        });
-
-        stats.put("tasksByStatus", statusCounts);
+        if (readModelEnabled) {
+            TaskStatistics counters = taskStatisticsService.getStatistics(TaskStatistics.projectKey(projectId));
 
-        // Count tasks by priority
-        GroupOperation groupByPriority = group("priority").count().as("count");
-        Aggregation priorityAggregation = newAggregation(matchProject, groupByPriority);
-        AggregationResults<Map> priorityResults = mongoTemplate.aggregate(priorityAggregation, "tasks", Map.class);
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("tasksByStatus", nonZero(counters.getByStatus()));
+            stats.put("tasksByPriority", nonZero(counters.getByPriority()));
+            return stats;
+        }
 
-        Map<String, Long> priorityCounts = new HashMap<>();
-        priorityResults.getMappedResults().forEach(result -> {
-            priorityCounts.put(result.get("_id").toString(), ((Number) result.get("count")).longValue());
-        });
+        Map<String, Map<String, Long>> breakdowns = countByFields(
+                Criteria.where("projectId").is(projectId), "status", "priority");
 
-        stats.put("tasksByPriority", priorityCounts);
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("tasksByStatus", breakdowns.get("status"));
+        stats.put("tasksByPriority", breakdowns.get("priority"));
 
         return stats;
     }
 
     public Map<String, Object> getUserStatistics(String userId) {
-        Map<String, Object> stats = new HashMap<>();
+        if (readModelEnabled) {
+            TaskStatistics counters = taskStatisticsService.getStatistics(TaskStatistics.assigneeKey(userId));
 
-        // Count assigned tasks by status
-        MatchOperation matchUser = match(
-                org.springframework.data.mongodb.core.query.Criteria.where("assignee.$id").is(userId));
-        GroupOperation groupByStatus = group("status").count().as("count");
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("assignedTasksByStatus", nonZero(counters.getByStatus()));
+            return stats;
+        }
 
-        Aggregation aggregation = newAggregation(matchUser, groupByStatus);
-        AggregationResults<Map> results = mongoTemplate.aggregate(aggregation, "tasks", Map.class);
+        Map<String, Map<String, Long>> breakdowns = countByFields(
+                Criteria.where("assigneeId").is(userId), "status");
 
-        Map<String, Long> statusCounts = new HashMap<>();
-        results.getMappedResults().forEach(result -> {
-            statusCounts.put(result.get("_id").toString(), ((Number) result.get("count")).longValue());
-        });
-
-        stats.put("assignedTasksByStatus", statusCounts);
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("assignedTasksByStatus", breakdowns.get("status"));
 
         return stats;
     }
 
     public Map<String, Object> getOverallStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-
-        // Total tasks count
-        long totalTasks = mongoTemplate.count(new org.springframework.data.mongodb.core.query.Query(), "tasks");
-        stats.put("totalTasks", totalTasks);
+        Map<String, Long> statusCounts;
+        Map<String, Long> priorityCounts;
+
+        if (readModelEnabled) {
+            TaskStatistics counters = taskStatisticsService.getStatistics(TaskStatistics.GLOBAL);
+            statusCounts = nonZero(counters.getByStatus());
+            priorityCounts = nonZero(counters.getByPriority());
+        } else {
+            Map<String, Map<String, Long>> breakdowns = countByFields(null, "status", "priority");
+            statusCounts = breakdowns.get("status");
+            priorityCounts = breakdowns.get("priority");
+        }
 
-        // Total projects count
-        long totalProjects = mongoTemplate.count(new org.springframework.data.mongodb.core.query.Query(), "projects");
-        stats.put("totalProjects", totalProjects);
+        Map<String, Object> stats = new HashMap<>();
 
-        // Total users count
-        long totalUsers = mongoTemplate.count(new org.springframework.data.mongodb.core.query.Query(), "users");
-        stats.put("totalUsers", totalUsers);
+        // Every task has exactly one status, so the status breakdown sums to the total
+        stats.put("totalTasks", statusCounts.values().stream().mapToLong(Long::longValue).sum());
 
-        // Tasks by status (overall)
-        GroupOperation groupByStatus = group("status").count().as("count");
-        Aggregation statusAggregation = newAggregation(groupByStatus);
-        AggregationResults<Map> statusResults = mongoTemplate.aggregate(statusAggregation, "tasks", Map.class);
-
-        Map<String, Long> statusCounts = new HashMap<>();
-        statusResults.getMappedResults().forEach(result -> {
-            statusCounts.put(result.get("_id").toString(), ((Number) result.get("count")).longValue());
-        });
+        // Collection metadata counts; no scan of projects or users
+        stats.put("totalProjects", mongoTemplate.estimatedCount(Project.class));
+        stats.put("totalUsers", mongoTemplate.estimatedCount(User.class));
 
         stats.put("tasksByStatus", statusCounts);
+        stats.put("tasksByPriority", priorityCounts);
+
+        return stats;
+    }
 
-        // Tasks by priority (overall)
-        GroupOperation groupByPriority = group("priority").count().as("count");
-        Aggregation priorityAggregation = newAggregation(groupByPriority);
-        AggregationResults<Map> priorityResults = mongoTemplate.aggregate(priorityAggregation, "tasks", Map.class);
+    public int rebuildStatistics() {
+        return taskStatisticsService.rebuild();
+    }
 
-        Map<String, Long> priorityCounts = new HashMap<>();
-        priorityResults.getMappedResults().forEach(result -> {
-            priorityCounts.put(result.get("_id").toString(), ((Number) result.get("count")).longValue());
+    /**
+     * Counters decremented to zero are kept in the read model; hide them so the
+     * response matches what the aggregation path returns.
+     */
+    private Map<String, Long> nonZero(Map<String, Long> counts) {
+        Map<String, Long> result = new HashMap<>();
+        counts.forEach((key, count) -> {
+            if (count != null && count != 0) {
+                result.put(key, count);
+            }
         });
+        return result;
+    }
 
-        stats.put("tasksByPriority", priorityCounts);
-
-        return stats;
+    /**
+     * Counts tasks grouped by each of the given fields in a single round trip: one
+     * optional {@code $match} followed by a {@code $facet} with one {@code $group}
+     * branch per field.
+     */
+    private Map<String, Map<String, Long>> countByFields(Criteria matchCriteria, String... fields) {
+        FacetOperation facet = null;
+        for (String field : fields) {
+            facet = facet == null
+                    ? facet(group(field).count().as("count")).as(field)
+                    : facet.and(group(field).count().as("count")).as(field);
+        }
+
+        List<AggregationOperation> operations = new ArrayList<>();
+        if (matchCriteria != null) {
+            operations.add(match(matchCriteria));
+        }
+        operations.add(facet);
+
+        Aggregation aggregation = newAggregation(operations);
+        Document result = mongoTemplate.aggregate(aggregation, Task.class, Document.class).getUniqueMappedResult();
+
+        Map<String, Map<String, Long>> breakdowns = new HashMap<>();
+        for (String field : fields) {
+            Map<String, Long> counts = new HashMap<>();
+            if (result != null) {
+                result.getList(field, Document.class).forEach(bucket -> {
+                    Object key = bucket.get("_id");
+                    counts.put(String.valueOf(key), ((Number) bucket.get("count")).longValue());
+                });
+            }
+            breakdowns.put(field, counts);
+        }
+
+        log.debug("Computed task breakdowns by {} in one facet aggregation", (Object) fields);
+        return breakdowns;
     }
 }
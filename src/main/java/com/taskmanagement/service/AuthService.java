@@ -9,6 +9,7 @@ import com.taskmanagement.model.Role;
 import com.taskmanagement.model.User;
 import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.security.JwtTokenProvider;
+import com.taskmanagement.security.UserPrincipal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -68,14 +69,8 @@ public class AuthService {
                 // Send welcome email asynchronously
                 emailService.sendWelcomeEmail(user.getEmail(), user.getFullName());
 
-                // Generate JWT token
-                UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                                .username(user.getUsername())
-                                .password(user.getPassword())
-                                .authorities(user.getRoles().stream()
-                                                .map(role -> "ROLE_" + role.name())
-                                                .toArray(String[]::new))
-                                .build();
+                // Generate JWT token carrying the user id and roles as claims
+                UserDetails userDetails = new UserPrincipal(user);
 
                 String token = jwtTokenProvider.generateToken(userDetails);
 
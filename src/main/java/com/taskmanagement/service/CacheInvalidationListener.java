@@ -0,0 +1,60 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.config.BroadcastingCaffeineCache;
+import com.taskmanagement.event.CacheInvalidationMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Applies invalidations broadcast by other nodes. Every node consumes the topic in
+ * its own consumer group, starting from the latest offset: entries cached before
+ * this node started cannot be stale relative to older messages.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.cache.invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationPublisher publisher;
+    private final ObjectMapper objectMapper;
+
+    public CacheInvalidationListener(CacheManager cacheManager, CacheInvalidationPublisher publisher,
+            ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(topics = "${application.kafka.topics.cache-invalidations}",
+            groupId = "cache-invalidation-#{T(java.util.UUID).randomUUID()}",
+            properties = "auto.offset.reset=latest",
+            autoStartup = "true")
+    public void onInvalidation(String payload) {
+        try {
+            CacheInvalidationMessage message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+            if (publisher.getNodeId().equals(message.getOrigin())) {
+                return;
+            }
+
+            Cache cache = cacheManager.getCache(message.getCacheName());
+            if (!(cache instanceof BroadcastingCaffeineCache broadcastingCache)) {
+                return;
+            }
+            if (message.getKey() == null) {
+                broadcastingCache.clearLocally();
+            } else {
+                broadcastingCache.evictLocally(message.getKey());
+            }
+        } catch (Exception e) {
+            log.warn("Ignoring malformed cache invalidation: {}", payload, e);
+        }
+    }
+}
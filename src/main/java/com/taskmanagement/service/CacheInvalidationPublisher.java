@@ -0,0 +1,64 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.event.CacheInvalidationMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Sends cache invalidations to the other nodes. Sends are fire-and-forget: a lost
+ * message leaves a stale entry only until the cache TTL expires it.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.cache.invalidation", name = "enabled", havingValue = "true")
+public class CacheInvalidationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(
+            @Qualifier("cacheInvalidationKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+            ObjectMapper objectMapper,
+            @Value("${application.kafka.topics.cache-invalidations}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void keyChanged(String cacheName, Object key) {
+        send(new CacheInvalidationMessage(nodeId, cacheName, String.valueOf(key)));
+    }
+
+    public void cacheCleared(String cacheName) {
+        send(new CacheInvalidationMessage(nodeId, cacheName, null));
+    }
+
+    private void send(CacheInvalidationMessage message) {
+        try {
+            kafkaTemplate.send(topic, message.getCacheName(), objectMapper.writeValueAsString(message))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("Failed to broadcast invalidation of {}:{}", message.getCacheName(), message.getKey(), e);
+                        }
+                    });
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Failed to broadcast invalidation of {}:{}", message.getCacheName(), message.getKey(), e);
+        }
+    }
+}
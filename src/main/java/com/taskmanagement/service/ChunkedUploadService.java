@@ -0,0 +1,323 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.FileResponse;
+import com.taskmanagement.dto.UploadSessionRequest;
+import com.taskmanagement.dto.UploadSessionResponse;
+import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.exception.ConflictException;
+import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.UploadSession;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.security.UserPrincipal;
+import com.taskmanagement.util.SecurityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Resumable uploads for files beyond the multipart limit: initiate a session,
+ * PUT chunks at increasing offsets, then complete. Each chunk is transferred from
+ * the request stream into the target file through a {@link FileChannel}, so memory
+ * use is one small copy buffer whatever the file size. A client that loses its
+ * connection reads {@code receivedBytes} from the session and continues from there.
+ * Sessions idle for longer than {@code session-expiry} are removed with their file.
+ */
+@Service
+public class ChunkedUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChunkedUploadService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskRepository taskRepository;
+    private final FileStorageService fileStorageService;
+    private final long maxFileSize;
+    private final long maxChunkSize;
+    private final Duration chunkTimeout;
+    private final Duration sessionExpiry;
+    private final int cleanupBatchSize;
+
+    public ChunkedUploadService(MongoTemplate mongoTemplate, TaskRepository taskRepository,
+            FileStorageService fileStorageService,
+            @Value("${application.file.chunked-upload.max-file-size}") DataSize maxFileSize,
+            @Value("${application.file.chunked-upload.max-chunk-size}") DataSize maxChunkSize,
+            @Value("${application.file.chunked-upload.chunk-timeout}") Duration chunkTimeout,
+            @Value("${application.file.chunked-upload.session-expiry}") Duration sessionExpiry,
+            @Value("${application.file.chunked-upload.cleanup-batch-size}") int cleanupBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskRepository = taskRepository;
+        this.fileStorageService = fileStorageService;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxChunkSize = maxChunkSize.toBytes();
+        this.chunkTimeout = chunkTimeout;
+        this.sessionExpiry = sessionExpiry;
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    public UploadSessionResponse initiate(UploadSessionRequest request) {
+        if (request.getSize() > maxFileSize) {
+            throw new BadRequestException("File size exceeds maximum limit of " + maxFileSize + " bytes");
+        }
+        if (!taskRepository.existsById(request.getTaskId())) {
+            throw new BadRequestException("Task not found");
+        }
+
+        UploadSession session = new UploadSession();
+        try {
+            Path filePath = fileStorageService.newStoragePath(request.getFileName());
+            Files.createFile(filePath);
+            session.setFilePath(filePath.toString());
+        } catch (IOException e) {
+            log.error("Failed to create upload file", e);
+            throw new BadRequestException("Failed to start upload: " + e.getMessage());
+        }
+
+        session.setFileName(request.getFileName());
+        session.setContentType(request.getContentType());
+        session.setSize(request.getSize());
+        session.setTaskId(request.getTaskId());
+        session.setUploadedBy(currentUserId());
+        session = mongoTemplate.insert(session);
+
+        log.info("Upload {} started: {} ({} bytes) for task: {}",
+                session.getId(), session.getFileName(), session.getSize(), session.getTaskId());
+
+        return mapToResponse(session);
+    }
+
+    public UploadSessionResponse getUpload(String uploadId) {
+        return mapToResponse(findOwnedSession(uploadId));
+    }
+
+    /**
+     * Writes one chunk at {@code offset}, which must equal the bytes received so far.
+     * If the client disconnects mid-chunk, the bytes that reached the file still
+     * count, so the next chunk starts exactly where this one stopped.
+     */
+    public UploadSessionResponse writeChunk(String uploadId, long offset, long contentLength, InputStream body) {
+        UploadSession session = findOwnedSession(uploadId);
+
+        if (offset != session.getReceivedBytes()) {
+            throw new ConflictException("Upload is at offset " + session.getReceivedBytes() + ", not " + offset);
+        }
+        if (contentLength <= 0) {
+            throw new BadRequestException("Chunk must have a non-zero Content-Length");
+        }
+        if (contentLength > maxChunkSize) {
+            throw new BadRequestException("Chunk exceeds maximum size of " + maxChunkSize + " bytes");
+        }
+        if (offset + contentLength > session.getSize()) {
+            throw new BadRequestException("Chunk extends past the declared file size of " + session.getSize());
+        }
+
+        LocalDateTime lockedUntil = lock(uploadId, offset);
+
+        long written;
+        try {
+            written = transfer(body, Paths.get(session.getFilePath()), offset, contentLength);
+        } catch (IOException e) {
+            unlock(uploadId, offset, lockedUntil, offset);
+            log.error("Failed to write chunk for upload {}", uploadId, e);
+            throw new BadRequestException("Failed to write chunk: " + e.getMessage());
+        }
+
+        unlock(uploadId, offset, lockedUntil, offset + written);
+        if (written < contentLength) {
+            log.info("Upload {} interrupted at offset {}", uploadId, offset + written);
+        }
+
+        session.setReceivedBytes(offset + written);
+        session.setUpdatedAt(LocalDateTime.now());
+        return mapToResponse(session);
+    }
+
+    public FileResponse complete(String uploadId) {
+        UploadSession session = findOwnedSession(uploadId);
+        if (session.getReceivedBytes() != session.getSize()) {
+            throw new ConflictException("Upload is incomplete: received " + session.getReceivedBytes()
+                    + " of " + session.getSize() + " bytes");
+        }
+
+        // Locking the finished session is the claim, so a repeated complete cannot register
+        // the file twice; the session is only removed once the file is registered
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime lockedUntil = now.plus(chunkTimeout).truncatedTo(ChronoUnit.MILLIS);
+        Query claim = Query.query(Criteria.where("_id").is(uploadId)
+                .and("receivedBytes").is(session.getSize())
+                .orOperator(unlockedAt(now)));
+        if (mongoTemplate.findAndModify(claim, new Update().set("lockedUntil", lockedUntil), UploadSession.class)
+                == null) {
+            throw new ConflictException("Upload is already being completed");
+        }
+        Query claimed = Query.query(Criteria.where("_id").is(uploadId).and("lockedUntil").is(lockedUntil));
+
+        Path filePath = Paths.get(session.getFilePath());
+        Task task = taskRepository.findById(session.getTaskId()).orElse(null);
+        if (task == null) {
+            mongoTemplate.remove(claimed, UploadSession.class);
+            deleteQuietly(filePath);
+            throw new BadRequestException("Task not found");
+        }
+
+        UserPrincipal currentUser = SecurityUtils.getCurrentUserPrincipal();
+        FileResponse response;
+        try {
+            response = fileStorageService.registerFile(session.getFileName(), session.getContentType(),
+                    session.getSize(), filePath, task, currentUser.getUser());
+        } catch (RuntimeException e) {
+            // Keep the session and the assembled file so the client can retry complete
+            mongoTemplate.updateFirst(claimed, new Update().unset("lockedUntil"), UploadSession.class);
+            throw e;
+        }
+        mongoTemplate.remove(claimed, UploadSession.class);
+
+        log.info("Upload {} completed: {} for task: {}", uploadId, session.getFileName(), session.getTaskId());
+
+        return response;
+    }
+
+    public void abort(String uploadId) {
+        UploadSession session = findOwnedSession(uploadId);
+        if (mongoTemplate.findAndRemove(Query.query(Criteria.where("_id").is(uploadId)), UploadSession.class) != null) {
+            deleteQuietly(Paths.get(session.getFilePath()));
+            log.info("Upload {} aborted", uploadId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.file.chunked-upload.cleanup-interval-ms}")
+    public void removeExpiredUploads() {
+        LocalDateTime now = LocalDateTime.now();
+        Query expired = Query.query(Criteria.where("updatedAt").lt(now.minus(sessionExpiry))
+                        .orOperator(unlockedAt(now)))
+                .limit(cleanupBatchSize);
+
+        List<UploadSession> sessions = mongoTemplate.find(expired, UploadSession.class);
+        for (UploadSession session : sessions) {
+            // Matching updatedAt skips sessions that received a chunk since they were read
+            Query unchanged = Query.query(Criteria.where("_id").is(session.getId())
+                    .and("updatedAt").is(session.getUpdatedAt()));
+            if (mongoTemplate.remove(unchanged, UploadSession.class).getDeletedCount() > 0) {
+                deleteQuietly(Paths.get(session.getFilePath()));
+            }
+        }
+        if (!sessions.isEmpty()) {
+            log.info("Removed {} expired uploads", sessions.size());
+        }
+    }
+
+    private long transfer(InputStream body, Path filePath, long offset, long length) throws IOException {
+        long written = 0;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            ReadableByteChannel source = Channels.newChannel(body);
+            try {
+                while (written < length) {
+                    long transferred = channel.transferFrom(source, offset + written, length - written);
+                    if (transferred == 0) {
+                        break;
+                    }
+                    written += transferred;
+                }
+            } catch (IOException e) {
+                // transferFrom reports partial progress before throwing, so written is what reached the file
+                if (written == 0) {
+                    throw e;
+                }
+            }
+            channel.force(false);
+        }
+        return written;
+    }
+
+    /**
+     * Takes the session's write lock for one chunk. The lock expires after
+     * {@code chunk-timeout} so a node that dies mid-chunk cannot wedge the upload.
+     */
+    private LocalDateTime lock(String uploadId, long offset) {
+        LocalDateTime now = LocalDateTime.now();
+        // Mongo keeps milliseconds, and unlock matches on this exact value
+        LocalDateTime lockedUntil = now.plus(chunkTimeout).truncatedTo(ChronoUnit.MILLIS);
+
+        Query query = Query.query(Criteria.where("_id").is(uploadId)
+                .and("receivedBytes").is(offset)
+                .orOperator(unlockedAt(now)));
+        if (mongoTemplate.findAndModify(query, new Update().set("lockedUntil", lockedUntil), UploadSession.class)
+                == null) {
+            throw new ConflictException("Another chunk is being written to this upload");
+        }
+        return lockedUntil;
+    }
+
+    private void unlock(String uploadId, long offset, LocalDateTime lockedUntil, long receivedBytes) {
+        // Only the holder of this lock may advance the offset
+        Query query = Query.query(Criteria.where("_id").is(uploadId)
+                .and("receivedBytes").is(offset)
+                .and("lockedUntil").is(lockedUntil));
+        Update update = new Update()
+                .set("receivedBytes", receivedBytes)
+                .set("updatedAt", LocalDateTime.now())
+                .unset("lockedUntil");
+        if (mongoTemplate.updateFirst(query, update, UploadSession.class).getModifiedCount() == 0) {
+            log.warn("Lock on upload {} expired before the chunk at offset {} finished", uploadId, offset);
+        }
+    }
+
+    private Criteria[] unlockedAt(LocalDateTime now) {
+        return new Criteria[] {
+                Criteria.where("lockedUntil").is(null),
+                Criteria.where("lockedUntil").lt(now)
+        };
+    }
+
+    private UploadSession findOwnedSession(String uploadId) {
+        UploadSession session = mongoTemplate.findById(uploadId, UploadSession.class);
+        // Another user's upload is reported as missing rather than forbidden
+        if (session == null || !session.getUploadedBy().equals(currentUserId())) {
+            throw new ResourceNotFoundException("Upload", "id", uploadId);
+        }
+        return session;
+    }
+
+    private String currentUserId() {
+        return SecurityUtils.getCurrentUserPrincipal().getUser().getId();
+    }
+
+    private void deleteQuietly(Path filePath) {
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload file {}", filePath, e);
+        }
+    }
+
+    private UploadSessionResponse mapToResponse(UploadSession session) {
+        UploadSessionResponse response = new UploadSessionResponse();
+        response.setUploadId(session.getId());
+        response.setFileName(session.getFileName());
+        response.setSize(session.getSize());
+        response.setReceivedBytes(session.getReceivedBytes());
+        response.setMaxChunkSize(maxChunkSize);
+        response.setExpiresAt(session.getUpdatedAt().plus(sessionExpiry));
+        return response;
+    }
+}
@@ -1,66 +1,109 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.model.AssignmentNotification;
+import com.taskmanagement.model.MailMessage;
+import com.taskmanagement.model.Priority;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+/**
+ * Renders emails and queues them in the mail outbox. Sending happens in
+ * {@link MailDispatcher}, so callers only pay for one insert and never see SMTP
+ * latency or failures. With digests enabled, non-critical assignment emails are
+ * buffered and coalesced per recipient by {@link NotificationDigestService}.
+ */
 @Service
 public class EmailService {
 
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
 
-    private final JavaMailSender mailSender;
+    private final MongoTemplate mongoTemplate;
+    private final boolean digestEnabled;
 
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailService(MongoTemplate mongoTemplate,
+            @Value("${application.mail.digest.enabled}") boolean digestEnabled) {
+        this.mongoTemplate = mongoTemplate;
+        this.digestEnabled = digestEnabled;
     }
 
-    @Async
     public void sendWelcomeEmail(String to, String fullName) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject("Welcome to Task Management System");
-            message.setText(String.format(
-                    "Hi %s,\n\n" +
-                            "Welcome to Task Management System! Your account has been created successfully.\n\n" +
-                            "You can now start managing your tasks and projects.\n\n" +
-                            "Best regards,\n" +
-                            "Task Management Team",
-                    fullName));
+        enqueue(to, "Welcome to Task Management System", String.format(
+                "Hi %s,\n\n" +
+                        "Welcome to Task Management System! Your account has been created successfully.\n\n" +
+                        "You can now start managing your tasks and projects.\n\n" +
+                        "Best regards,\n" +
+                        "Task Management Team",
+                fullName));
+    }
 
-            mailSender.send(message);
-            log.info("Welcome email sent to: {}", to);
-        } catch (Exception e) {
-            log.error("Failed to send welcome email to: {}", to, e);
+    public void sendTaskAssignmentEmail(String to, String assigneeName, String taskTitle, String projectName,
+            Priority priority) {
+        if (digestEnabled && priority != Priority.CRITICAL) {
+            try {
+                mongoTemplate.insert(new AssignmentNotification(to, assigneeName, taskTitle, projectName, priority));
+            } catch (Exception e) {
+                log.error("Failed to buffer assignment notification to: {}", to, e);
+            }
+            return;
         }
+        sendTaskAssignmentEmail(to, assigneeName, taskTitle, projectName);
     }
 
-    @Async
-    public void sendTaskAssignmentEmail(String to, String assigneeName, String taskTitle, String projectName) {
-        try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(to);
-            message.setSubject("New Task Assigned: " + taskTitle);
-            message.setText(String.format(
-                    "Hi %s,\n\n" +
-                            "A new task has been assigned to you:\n\n" +
-                            "Task: %s\n" +
-                            "Project: %s\n\n" +
-                            "Please login to the Task Management System to view details.\n\n" +
-                            "Best regards,\n" +
-                            "Task Management Team",
-                    assigneeName,
-                    taskTitle,
-                    projectName));
+    /**
+     * Sends the buffered assignments for one recipient as a single email; a lone
+     * assignment gets the regular single-task wording. Returns whether the email was
+     * queued, so the caller only drops the buffer once it is safely in the outbox.
+     */
+    public boolean sendAssignmentDigest(String to, String assigneeName, List<AssignmentNotification> assignments) {
+        if (assignments.size() == 1) {
+            AssignmentNotification assignment = assignments.get(0);
+            return sendTaskAssignmentEmail(to, assigneeName, assignment.getTaskTitle(), assignment.getProjectName());
+        }
 
-            mailSender.send(message);
-            log.info("Task assignment email sent to: {}", to);
+        StringBuilder lines = new StringBuilder();
+        for (AssignmentNotification assignment : assignments) {
+            lines.append(String.format("- %s (Project: %s, Priority: %s)\n",
+                    assignment.getTaskTitle(), assignment.getProjectName(), assignment.getPriority()));
+        }
+        return enqueue(to, assignments.size() + " New Tasks Assigned", String.format(
+                "Hi %s,\n\n" +
+                        "The following %d tasks have been assigned to you:\n\n" +
+                        "%s\n" +
+                        "Please login to the Task Management System to view details.\n\n" +
+                        "Best regards,\n" +
+                        "Task Management Team",
+                assigneeName,
+                assignments.size(),
+                lines));
+    }
+
+    private boolean sendTaskAssignmentEmail(String to, String assigneeName, String taskTitle, String projectName) {
+        return enqueue(to, "New Task Assigned: " + taskTitle, String.format(
+                "Hi %s,\n\n" +
+                        "A new task has been assigned to you:\n\n" +
+                        "Task: %s\n" +
+                        "Project: %s\n\n" +
+                        "Please login to the Task Management System to view details.\n\n" +
+                        "Best regards,\n" +
+                        "Task Management Team",
+                assigneeName,
+                taskTitle,
+                projectName));
+    }
+
+    private boolean enqueue(String to, String subject, String body) {
+        try {
+            mongoTemplate.insert(new MailMessage(to, subject, body));
+            log.debug("Queued email '{}' to: {}", subject, to);
+            return true;
         } catch (Exception e) {
-            log.error("Failed to send task assignment email to: {}", to, e);
+            log.error("Failed to queue email '{}' to: {}", subject, to, e);
+            return false;
         }
     }
 }
@@ -1,46 +1,190 @@
 package com.taskmanagement.service;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.dto.CurrencyConversionRequest;
+import com.taskmanagement.dto.CurrencyConversionResponse;
+import com.taskmanagement.dto.ExchangeRateTable;
+import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Currency conversion computed locally from cached rate tables. One upstream call
+ * fetches every rate for a base currency; the table is refreshed in the background
+ * after {@code rates-refresh} and dropped after {@code rates-ttl}. Concurrent misses
+ * for the same base share a single in-flight fetch.
+ *
+ * <p>Upstream calls are non-blocking and pass through the {@code currency-exchange}
+ * bulkhead and circuit breaker. When a fetch fails or the breaker is open, the last
+ * table successfully fetched for that base is served instead; {@code ratesAsOf}
+ * tells the caller how old it is. A base the upstream has no rates for is a
+ * {@link BadRequestException}, which the breaker ignores and no fallback hides.
+ */
 @Service
 public class ExternalApiService {
 
     private static final Logger log = LoggerFactory.getLogger(ExternalApiService.class);
 
+    private static final String UPSTREAM = "currency-exchange";
+    private static final int MAX_PARALLEL_FETCHES = 8;
+
     private final WebClient webClient;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final AsyncLoadingCache<String, ExchangeRateTable> rateTables;
+    private final Map<String, ExchangeRateTable> lastKnownTables = new ConcurrentHashMap<>();
 
     @Value("${application.external-api.currency-exchange-url}")
     private String currencyExchangeUrl;
 
-    public ExternalApiService(WebClient webClient) {
+    public ExternalApiService(WebClient webClient, MeterRegistry meterRegistry,
+            BulkheadRegistry bulkheadRegistry, CircuitBreakerRegistry circuitBreakerRegistry,
+            @Value("${application.external-api.rates-refresh}") Duration ratesRefresh,
+            @Value("${application.external-api.rates-ttl}") Duration ratesTtl) {
         this.webClient = webClient;
+        this.bulkhead = bulkheadRegistry.bulkhead(UPSTREAM);
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(UPSTREAM);
+        this.rateTables = Caffeine.newBuilder()
+                .maximumSize(500)
+                .refreshAfterWrite(ratesRefresh)
+                .expireAfterWrite(ratesTtl)
+                .recordStats()
+                .buildAsync((base, executor) -> fetchRates(base).toFuture());
+        CaffeineCacheMetrics.monitor(meterRegistry, rateTables.synchronous(), "exchangeRates");
+    }
+
+    public Mono<CurrencyConversionResponse> convertCurrency(String from, String to, Double amount) {
+        return Mono.defer(() -> {
+            String base = normalize(from);
+            String target = normalize(to);
+            BigDecimal value = toAmount(amount);
+            return rateTable(base).map(table -> convert(table, target, value));
+        });
     }
 
-    public Map<String, Object> convertCurrency(String from, String to, Double amount) {
-        try {
-            String url = String.format("%s/convert?from=%s&to=%s&amount=%.2f",
-                    currencyExchangeUrl, from, to, amount);
+    /**
+     * Converts every amount in one pass. Each distinct base currency is resolved
+     * once, and the bases missing from the cache are fetched in parallel. Results
+     * come back in request order.
+     */
+    public Mono<List<CurrencyConversionResponse>> convertCurrencies(List<CurrencyConversionRequest> conversions) {
+        return Mono.defer(() -> {
+            List<String> bases = new ArrayList<>(conversions.size());
+            List<String> targets = new ArrayList<>(conversions.size());
+            List<BigDecimal> amounts = new ArrayList<>(conversions.size());
+            for (CurrencyConversionRequest conversion : conversions) {
+                bases.add(normalize(conversion.getFrom()));
+                targets.add(normalize(conversion.getTo()));
+                amounts.add(toAmount(conversion.getAmount()));
+            }
+
+            return Flux.fromIterable(new LinkedHashSet<>(bases))
+                    .flatMap(base -> rateTable(base).map(table -> Map.entry(base, table)), MAX_PARALLEL_FETCHES)
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .map(tables -> {
+                        List<CurrencyConversionResponse> results = new ArrayList<>(conversions.size());
+                        for (int i = 0; i < conversions.size(); i++) {
+                            results.add(convert(tables.get(bases.get(i)), targets.get(i), amounts.get(i)));
+                        }
+                        return results;
+                    });
+        });
+    }
 
-            log.info("Calling currency exchange API: {}", url);
+    private Mono<ExchangeRateTable> rateTable(String base) {
+        return Mono.fromFuture(() -> rateTables.get(base))
+                // An unknown base is the caller's mistake, not an outage to paper over
+                .onErrorResume(e -> !(e instanceof BadRequestException), e -> {
+                    ExchangeRateTable lastKnown = lastKnownTables.get(base);
+                    if (lastKnown == null) {
+                        return Mono.error(new ServiceUnavailableException("Exchange rates are currently unavailable"));
+                    }
+                    log.warn("Serving last known {} rates from {}: {}", base, lastKnown.getFetchedAt(), e.toString());
+                    return Mono.just(lastKnown);
+                });
+    }
+
+    private CurrencyConversionResponse convert(ExchangeRateTable table, String target, BigDecimal value) {
+        BigDecimal rate = table.getBase().equals(target) ? BigDecimal.ONE : table.getRates().get(target);
+        if (rate == null) {
+            throw new BadRequestException("Unsupported currency: " + target);
+        }
+        BigDecimal result = value.multiply(rate).setScale(4, RoundingMode.HALF_EVEN);
+        return new CurrencyConversionResponse(table.getBase(), target, value, rate, result, table.getFetchedAt());
+    }
 
-            Map<String, Object> response = webClient.get()
-                    .uri(url)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
+    private Mono<ExchangeRateTable> fetchRates(String base) {
+        log.info("Fetching exchange rates for base {}", base);
 
-            log.info("Currency conversion successful: {} {} -> {}", amount, from, to);
-            return response;
+        // Template form keeps the base out of the http.client.requests uri tag
+        return webClient.get()
+                .uri(currencyExchangeUrl + "/latest?base={base}", base)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> toTable(base, response))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .doOnNext(table -> {
+                    lastKnownTables.put(base, table);
+                    log.info("Fetched {} exchange rates for base {}", table.getRates().size(), base);
+                })
+                .doOnError(e -> log.error("Failed to fetch exchange rates for {}: {}", base, e.toString()));
+    }
+
+    private ExchangeRateTable toTable(String base, Map<?, ?> response) {
+        Map<String, BigDecimal> rates = new HashMap<>();
+        if (response.get("rates") instanceof Map<?, ?> rateMap) {
+            rateMap.forEach((currency, rate) -> {
+                if (rate instanceof Number number) {
+                    rates.put(currency.toString().toUpperCase(Locale.ROOT), new BigDecimal(number.toString()));
+                }
+            });
+        }
+        if (rates.isEmpty()) {
+            // Listed under the breaker's ignore-exceptions, so it does not count as an upstream failure
+            throw new BadRequestException("Unsupported currency: " + base);
+        }
+        return new ExchangeRateTable(base, rates, LocalDateTime.now());
+    }
+
+    private BigDecimal toAmount(Double amount) {
+        if (amount == null || amount.isNaN() || amount.isInfinite()) {
+            throw new BadRequestException("Invalid amount: " + amount);
+        }
+        return BigDecimal.valueOf(amount);
+    }
 
-        } catch (Exception e) {
-            log.error("Failed to convert currency", e);
-            throw new RuntimeException("Currency conversion failed: " + e.getMessage());
+    private String normalize(String currency) {
+        if (currency == null || !currency.matches("[A-Za-z]{3}")) {
+            throw new BadRequestException("Invalid currency code: " + currency);
         }
+        return currency.toUpperCase(Locale.ROOT);
     }
 }
@@ -1,15 +1,24 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.dto.FileContent;
+import com.taskmanagement.dto.FileResponse;
+import com.taskmanagement.dto.UserSummary;
 import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.exception.ResourceNotFoundException;
 import com.taskmanagement.model.FileDocument;
 import com.taskmanagement.model.Task;
+import com.taskmanagement.model.User;
 import com.taskmanagement.repository.FileDocumentRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.security.UserPrincipal;
+import com.taskmanagement.util.LazyReferences;
 import com.taskmanagement.util.SecurityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,28 +28,36 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 public class FileStorageService {
 
     private static final Logger log = LoggerFactory.getLogger(FileStorageService.class);
+    private static final Pattern SAFE_EXTENSION = Pattern.compile("(\\.[A-Za-z0-9]{1,16})?");
 
     private final FileDocumentRepository fileDocumentRepository;
     private final TaskRepository taskRepository;
+    private final UserSummaryLoader userSummaryLoader;
 
     @Value("${application.file.upload-dir}")
     private String uploadDir;
 
-    public FileStorageService(FileDocumentRepository fileDocumentRepository, TaskRepository taskRepository) {
+    public FileStorageService(FileDocumentRepository fileDocumentRepository, TaskRepository taskRepository,
+            UserSummaryLoader userSummaryLoader) {
         this.fileDocumentRepository = fileDocumentRepository;
         this.taskRepository = taskRepository;
+        this.userSummaryLoader = userSummaryLoader;
     }
 
     @Transactional
-    public FileDocument uploadFile(MultipartFile file, String taskId) {
+    public FileResponse uploadFile(MultipartFile file, String taskId) {
         if (file.isEmpty()) {
             throw new BadRequestException("File is empty");
         }
@@ -51,42 +68,18 @@ public class FileStorageService {
         UserPrincipal currentUser = SecurityUtils.getCurrentUserPrincipal();
 
         try {
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(uploadDir);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
-            }
-
-            // Generate unique filename
             String originalFilename = file.getOriginalFilename();
-            String extension = originalFilename != null && originalFilename.contains(".")
-                    ? originalFilename.substring(originalFilename.lastIndexOf("."))
-                    : "";
-            String uniqueFilename = UUID.randomUUID().toString() + extension;
+            Path filePath = newStoragePath(originalFilename);
 
             // Save file to disk
-            Path filePath = uploadPath.resolve(uniqueFilename);
             Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
 
-            // Create file document
-            FileDocument fileDocument = new FileDocument();
-            fileDocument.setFileName(originalFilename);
-            fileDocument.setContentType(file.getContentType());
-            fileDocument.setSize(file.getSize());
-            fileDocument.setFilePath(filePath.toString());
-            fileDocument.setUploadedBy(currentUser.getUser());
-            fileDocument.setTask(task);
-            fileDocument.setUploadedAt(LocalDateTime.now());
-
-            fileDocument = fileDocumentRepository.save(fileDocument);
-
-            // Update task's attachment list
-            task.getAttachments().add(fileDocument.getId());
-            taskRepository.save(task);
+            FileResponse response = registerFile(originalFilename, file.getContentType(), file.getSize(), filePath,
+                    task, currentUser.getUser());
 
             log.info("File uploaded: {} for task: {}", originalFilename, taskId);
 
-            return fileDocument;
+            return response;
 
         } catch (IOException e) {
             log.error("Failed to upload file", e);
@@ -94,18 +87,91 @@ public class FileStorageService {
         }
     }
 
-    public FileDocument getFileById(String id) {
-        return fileDocumentRepository.findById(id)
+    /**
+     * Picks a unique path under the upload directory, keeping the original extension.
+     */
+    public Path newStoragePath(String originalFilename) throws IOException {
+        // Create upload directory if it doesn't exist
+        Path uploadPath = Paths.get(uploadDir);
+        if (!Files.exists(uploadPath)) {
+            Files.createDirectories(uploadPath);
+        }
+
+        // Generate unique filename; the extension is client input, so anything but a plain suffix is dropped
+        String extension = originalFilename != null && originalFilename.contains(".")
+                ? originalFilename.substring(originalFilename.lastIndexOf("."))
+                : "";
+        if (!SAFE_EXTENSION.matcher(extension).matches()) {
+            extension = "";
+        }
+        return uploadPath.resolve(UUID.randomUUID().toString() + extension);
+    }
+
+    /**
+     * Records a file that is already on disk and attaches it to the task.
+     */
+    @Transactional
+    public FileResponse registerFile(String fileName, String contentType, long size, Path filePath, Task task,
+            User uploadedBy) {
+        FileDocument fileDocument = new FileDocument();
+        fileDocument.setFileName(fileName);
+        fileDocument.setContentType(contentType);
+        fileDocument.setSize(size);
+        fileDocument.setFilePath(filePath.toString());
+        fileDocument.setUploadedBy(uploadedBy);
+        fileDocument.setTask(task);
+        fileDocument.setUploadedAt(LocalDateTime.now());
+
+        fileDocument = fileDocumentRepository.save(fileDocument);
+
+        // Update task's attachment list
+        task.getAttachments().add(fileDocument.getId());
+        taskRepository.save(task);
+
+        return mapToResponse(fileDocument);
+    }
+
+    public FileResponse getFileById(String id) {
+        FileDocument fileDocument = fileDocumentRepository.findById(id)
                 .orElseThrow(() -> new BadRequestException("File not found"));
+        return mapToResponse(fileDocument);
     }
 
-    public List<FileDocument> getFilesByTask(String taskId) {
-        return fileDocumentRepository.findByTaskId(taskId);
+    /**
+     * Resolves the stored bytes of a file without reading them. The ETag is derived
+     * from the id, size and modification time; a file id is never rewritten in place,
+     * so a matching ETag always means identical bytes and byte ranges are safe to resume.
+     */
+    public FileContent getFileContent(String id) {
+        FileDocument fileDocument = fileDocumentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("File", "id", id));
+
+        Path filePath = Paths.get(fileDocument.getFilePath());
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (IOException e) {
+            log.warn("Content missing for file {} at {}", id, filePath);
+            throw new ResourceNotFoundException("File content", "id", id);
+        }
+
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String eTag = id + "-" + Long.toHexString(attributes.size()) + "-" + Long.toHexString(lastModified);
+
+        String fileName = fileDocument.getFileName() != null ? fileDocument.getFileName() : id;
+        return new FileContent(new FileSystemResource(filePath), fileName,
+                contentTypeOf(fileDocument), attributes.size(), lastModified, eTag);
     }
 
-    public org.springframework.data.domain.Page<FileDocument> getAllFiles(
+    public List<FileResponse> getFilesByTask(String taskId) {
+        return mapToResponses(fileDocumentRepository.findByTaskId(taskId));
+    }
+
+    public org.springframework.data.domain.Page<FileResponse> getAllFiles(
             org.springframework.data.domain.Pageable pageable) {
-        return fileDocumentRepository.findAll(pageable);
+        org.springframework.data.domain.Page<FileDocument> files = fileDocumentRepository.findAll(pageable);
+        List<FileResponse> content = mapToResponses(files.getContent());
+        return new org.springframework.data.domain.PageImpl<>(content, pageable, files.getTotalElements());
     }
 
     @Transactional
@@ -119,10 +185,12 @@ public class FileStorageService {
             Files.deleteIfExists(filePath);
 
             // Remove from task's attachment list
-            Task task = fileDocument.getTask();
-            if (task != null) {
-                task.getAttachments().remove(id);
-                taskRepository.save(task);
+            String taskId = LazyReferences.idOf(fileDocument.getTask(), Task::getId);
+            if (taskId != null) {
+                taskRepository.findById(taskId).ifPresent(task -> {
+                    task.getAttachments().remove(id);
+                    taskRepository.save(task);
+                });
             }
 
             // Delete file document
@@ -135,4 +203,42 @@ public class FileStorageService {
             throw new BadRequestException("Failed to delete file: " + e.getMessage());
         }
     }
+
+    private MediaType contentTypeOf(FileDocument fileDocument) {
+        if (fileDocument.getContentType() == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(fileDocument.getContentType());
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+
+    private FileResponse mapToResponse(FileDocument fileDocument) {
+        return mapToResponses(List.of(fileDocument)).get(0);
+    }
+
+    /**
+     * Maps a batch of files, resolving every uploader through one loader call.
+     */
+    private List<FileResponse> mapToResponses(List<FileDocument> fileDocuments) {
+        Map<String, UserSummary> uploaders = userSummaryLoader.loadAll(fileDocuments.stream()
+                .map(file -> LazyReferences.idOf(file.getUploadedBy(), User::getId))
+                .collect(Collectors.toSet()));
+
+        return fileDocuments.stream()
+                .map(file -> {
+                    FileResponse response = new FileResponse();
+                    response.setId(file.getId());
+                    response.setFileName(file.getFileName());
+                    response.setContentType(file.getContentType());
+                    response.setSize(file.getSize());
+                    response.setTaskId(LazyReferences.idOf(file.getTask(), Task::getId));
+                    response.setUploadedBy(uploaders.get(LazyReferences.idOf(file.getUploadedBy(), User::getId)));
+                    response.setUploadedAt(file.getUploadedAt());
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
 }
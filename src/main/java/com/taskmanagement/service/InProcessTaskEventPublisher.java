@@ -0,0 +1,125 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.event.TaskEventHandler;
+import com.taskmanagement.event.TaskEventPublisher;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-node transport: events go into a bounded ring buffer and one dispatcher
+ * thread drains it in batches of up to {@code batch-size}, handing each batch to
+ * every {@link TaskEventHandler}. Publishing never touches the network; it only
+ * blocks when the buffer is full. Events are held in memory, so anything still
+ * buffered when the process dies is lost; {@code POST /analytics/rebuild} recovers
+ * the counters.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.events", name = "transport", havingValue = "in-process")
+public class InProcessTaskEventPublisher implements TaskEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(InProcessTaskEventPublisher.class);
+
+    private final List<TaskEventHandler> handlers;
+    private final BlockingQueue<TaskEvent> ringBuffer;
+    private final int batchSize;
+    private final Thread dispatcher;
+
+    private volatile boolean running = true;
+
+    public InProcessTaskEventPublisher(List<TaskEventHandler> handlers, MeterRegistry meterRegistry,
+            @Value("${application.events.in-process.buffer-size}") int bufferSize,
+            @Value("${application.events.in-process.batch-size}") int batchSize) {
+        this.handlers = handlers;
+        this.ringBuffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+
+        Gauge.builder("task.events.bus.pending", ringBuffer, BlockingQueue::size)
+                .description("Task events buffered for in-process dispatch")
+                .register(meterRegistry);
+
+        this.dispatcher = new Thread(this::dispatchLoop, "task-event-dispatcher");
+        this.dispatcher.setDaemon(true);
+        this.dispatcher.start();
+    }
+
+    @Override
+    public void publish(List<TaskEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Handlers must not see changes that are later rolled back
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(events);
+                }
+            });
+        } else {
+            enqueue(events);
+        }
+    }
+
+    private void enqueue(List<TaskEvent> events) {
+        try {
+            for (TaskEvent event : events) {
+                ringBuffer.put(event);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while publishing task events; {} events dropped", events.size());
+        }
+    }
+
+    private void dispatchLoop() {
+        List<TaskEvent> batch = new ArrayList<>(batchSize);
+        while (running || !ringBuffer.isEmpty()) {
+            try {
+                TaskEvent first = ringBuffer.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                ringBuffer.drainTo(batch, batchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                // Shutdown: fall through and drain whatever is left
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<TaskEvent> batch) {
+        for (TaskEventHandler handler : handlers) {
+            try {
+                handler.onEvents(batch);
+            } catch (RuntimeException e) {
+                log.error("Task event handler {} failed on a batch of {} events",
+                        handler.getClass().getSimpleName(), batch.size(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
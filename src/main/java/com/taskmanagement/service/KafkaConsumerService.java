@@ -1,19 +1,133 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.event.TaskEventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 public class KafkaConsumerService {
 
     private static final Logger log = LoggerFactory.getLogger(KafkaConsumerService.class);
 
-    @KafkaListener(topics = "task-events", groupId = "task-management-group")
-    public void consumeTaskEvent(String message) {
-        log.info("Consumed task event: {}", message);
-        // Process the event (e.g., update caches, trigger notifications, etc.)
+    private final List<TaskEventHandler> handlers;
+    private final Counter consumedEvents;
+    private final Counter failedEvents;
+    private final DistributionSummary batchSize;
+
+    public KafkaConsumerService(List<TaskEventHandler> handlers, MeterRegistry meterRegistry) {
+        this.handlers = handlers;
+        this.consumedEvents = Counter.builder("task.events.consumed")
+                .description("Task events applied")
+                .register(meterRegistry);
+        this.failedEvents = Counter.builder("task.events.failed")
+                .description("Task events that failed and were handed to the retry chain")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("task.events.batch.size")
+                .description("Records per task events batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies the decodable records of a batch with one call per handler, so the
+     * handlers can fold the whole poll into a single write. Only when that fails are
+     * the records replayed one at a time to find the one to hand to the retry chain.
+     * Handlers recognise events by {@link TaskEvent#getEventId()}, so the part of the
+     * batch the failed call already wrote is skipped on replay rather than counted twice.
+     */
+    @KafkaListener(topics = "${application.kafka.topics.task-events}", groupId = "task-management-group",
+            containerFactory = "taskEventBatchListenerContainerFactory")
+    public void consumeTaskEvents(List<ConsumerRecord<String, TaskEvent>> records, Acknowledgment acknowledgment) {
+        batchSize.record(records.size());
+
+        int decodable = 0;
+        while (decodable < records.size() && records.get(decodable).value() != null) {
+            decodable++;
+        }
+
+        List<TaskEvent> events = new ArrayList<>(decodable);
+        for (int i = 0; i < decodable; i++) {
+            events.add(records.get(i).value());
+        }
+        if (!events.isEmpty()) {
+            try {
+                dispatch(events);
+                consumedEvents.increment(events.size());
+            } catch (RuntimeException e) {
+                log.warn("Batch of {} task events failed, applying them one at a time", events.size(), e);
+                dispatchOneByOne(events);
+            }
+        }
+
+        if (decodable < records.size()) {
+            failedEvents.increment();
+            // The error handler commits the records before it and parks it on the DLT without retrying
+            throw new BatchListenerFailedException("Undecodable task event",
+                    new DeserializationException("Undecodable task event at offset "
+                            + records.get(decodable).offset(), null, false, null), decodable);
+        }
+
+        acknowledgment.acknowledge();
+        log.debug("Applied batch of {} task events", records.size());
+    }
+
+    private void dispatchOneByOne(List<TaskEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            try {
+                dispatch(List.of(events.get(i)));
+                consumedEvents.increment();
+            } catch (RuntimeException e) {
+                failedEvents.increment();
+                // Commits everything before this record and routes it to the retry chain
+                throw new BatchListenerFailedException("Failed to apply task event", e, i);
+            }
+        }
+    }
+
+    @RetryableTopic(
+            attempts = "${application.kafka.task-events.retry-attempts}",
+            backoff = @Backoff(delay = 1000, multiplier = 2.0, maxDelay = 30000),
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            numPartitions = "${application.kafka.task-events.partitions}",
+            replicationFactor = "1",
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            kafkaTemplate = "taskEventKafkaTemplate")
+    @KafkaListener(topics = "${application.kafka.topics.task-events-failed}", groupId = "task-management-group",
+            containerFactory = "taskEventListenerContainerFactory")
+    public void retryTaskEvent(TaskEvent event) {
+        dispatch(List.of(event));
+        consumedEvents.increment();
+    }
+
+    @DltHandler
+    public void handleDeadTaskEvent(TaskEvent event, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.error("Task event {} for task {} exhausted retries and was parked on {}",
+                event != null ? event.getType() : null, event != null ? event.getTaskId() : null, topic);
+    }
+
+    private void dispatch(List<TaskEvent> events) {
+        for (TaskEventHandler handler : handlers) {
+            handler.onEvents(events);
+        }
     }
 
     @KafkaListener(topics = "notification-events", groupId = "task-management-group")
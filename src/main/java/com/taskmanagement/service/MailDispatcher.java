@@ -0,0 +1,169 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.MailMessage;
+import com.taskmanagement.model.MailStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the mail outbox. Each run claims up to {@code batch-size} due messages
+ * and hands them to {@link JavaMailSender#send(SimpleMailMessage...)} in one call,
+ * which delivers the whole batch over a single SMTP connection. Failed messages
+ * are retried with exponential backoff and marked {@code FAILED} after
+ * {@code max-attempts}. Claims that outlive {@code claim-timeout} (a node died
+ * mid-batch) become due again, so several nodes can run the dispatcher safely.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.mail.dispatcher", name = "enabled", havingValue = "true")
+public class MailDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration claimTimeout;
+
+    public MailDispatcher(MongoTemplate mongoTemplate, JavaMailSender mailSender,
+            @Value("${spring.mail.username}") String from,
+            @Value("${application.mail.dispatcher.batch-size}") int batchSize,
+            @Value("${application.mail.dispatcher.max-attempts}") int maxAttempts,
+            @Value("${application.mail.dispatcher.initial-backoff}") Duration initialBackoff,
+            @Value("${application.mail.dispatcher.max-backoff}") Duration maxBackoff,
+            @Value("${application.mail.dispatcher.claim-timeout}") Duration claimTimeout) {
+        this.mongoTemplate = mongoTemplate;
+        this.mailSender = mailSender;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.claimTimeout = claimTimeout;
+    }
+
+    @Scheduled(fixedDelayString = "${application.mail.dispatcher.poll-interval-ms}")
+    public void dispatch() {
+        List<MailMessage> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                send(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    private List<MailMessage> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        Criteria due = new Criteria().orOperator(
+                Criteria.where("status").is(MailStatus.PENDING).and("nextAttemptAt").lte(now),
+                Criteria.where("status").is(MailStatus.SENDING).and("claimedAt").lt(now.minus(claimTimeout)));
+
+        Query candidates = Query.query(due).with(Sort.by("nextAttemptAt")).limit(batchSize);
+        candidates.fields().include("_id");
+        List<Object> ids = mongoTemplate.find(candidates, MailMessage.class).stream()
+                .map(MailMessage::getId)
+                .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // Re-checking the due criteria makes the claim safe against other nodes
+        String claimId = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(Criteria.where("_id").in(ids), due)),
+                new Update().set("status", MailStatus.SENDING).set("claimId", claimId).set("claimedAt", now),
+                MailMessage.class);
+        return mongoTemplate.find(Query.query(Criteria.where("claimId").is(claimId)), MailMessage.class);
+    }
+
+    private void send(List<MailMessage> batch) {
+        SimpleMailMessage[] messages = batch.stream().map(this::toMailMessage).toArray(SimpleMailMessage[]::new);
+
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(messages);
+            failures = Collections.emptyMap();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty()
+                    ? allFailed(messages, e)
+                    : e.getFailedMessages();
+        } catch (MailException e) {
+            // Connection or authentication failure: nothing in the batch went out
+            failures = allFailed(messages, e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MailMessage.class);
+        for (int i = 0; i < batch.size(); i++) {
+            MailMessage message = batch.get(i);
+            Exception failure = failures.get(messages[i]);
+            Query byId = Query.query(Criteria.where("_id").is(message.getId()));
+            Update update = new Update().unset("claimId").unset("claimedAt").inc("attempts", 1);
+
+            if (failure == null) {
+                update.set("status", MailStatus.SENT).set("sentAt", now);
+            } else if (message.getAttempts() + 1 >= maxAttempts) {
+                update.set("status", MailStatus.FAILED).set("lastError", String.valueOf(failure.getMessage()));
+                log.error("Giving up on email '{}' to: {} after {} attempts",
+                        message.getSubject(), message.getTo(), message.getAttempts() + 1, failure);
+            } else {
+                update.set("status", MailStatus.PENDING)
+                        .set("nextAttemptAt", now.plus(backoff(message.getAttempts() + 1)))
+                        .set("lastError", String.valueOf(failure.getMessage()));
+            }
+            bulk.updateOne(byId, update);
+        }
+        bulk.execute();
+
+        log.info("Dispatched {} emails, {} failed", batch.size() - failures.size(), failures.size());
+    }
+
+    private SimpleMailMessage toMailMessage(MailMessage message) {
+        SimpleMailMessage mail = new SimpleMailMessage();
+        mail.setFrom(from);
+        mail.setTo(message.getTo());
+        mail.setSubject(message.getSubject());
+        mail.setText(message.getBody());
+        return mail;
+    }
+
+    private Map<Object, Exception> allFailed(SimpleMailMessage[] messages, Exception e) {
+        Map<Object, Exception> failures = new HashMap<>();
+        for (SimpleMailMessage message : messages) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+}
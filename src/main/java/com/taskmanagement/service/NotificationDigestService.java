@@ -0,0 +1,105 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.model.AssignmentNotification;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+/**
+ * Turns buffered assignment notifications into one digest email per recipient.
+ * A recipient's buffer is flushed once its oldest notification is {@code window}
+ * old, so a burst of reassignments collapses into a single message. Buffers are
+ * claimed before sending, so several nodes can run the flush concurrently, and are
+ * only removed once the digest is in the mail outbox; otherwise the claim is released.
+ */
+@Component
+@ConditionalOnProperty(prefix = "application.mail.digest", name = "enabled", havingValue = "true")
+public class NotificationDigestService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDigestService.class);
+
+    private static final Duration STALE_CLAIM = Duration.ofMinutes(10);
+
+    private final MongoTemplate mongoTemplate;
+    private final EmailService emailService;
+    private final Duration window;
+    private final int maxRecipientsPerFlush;
+
+    public NotificationDigestService(MongoTemplate mongoTemplate, EmailService emailService,
+            @Value("${application.mail.digest.window}") Duration window,
+            @Value("${application.mail.digest.max-recipients-per-flush}") int maxRecipientsPerFlush) {
+        this.mongoTemplate = mongoTemplate;
+        this.emailService = emailService;
+        this.window = window;
+        this.maxRecipientsPerFlush = maxRecipientsPerFlush;
+    }
+
+    @Scheduled(fixedDelayString = "${application.mail.digest.flush-interval-ms}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(window);
+
+        Aggregation dueRecipients = newAggregation(
+                match(unclaimed(now)),
+                group("recipient").min("createdAt").as("oldest"),
+                match(Criteria.where("oldest").lte(cutoff)),
+                limit(maxRecipientsPerFlush));
+
+        for (Document due : mongoTemplate.aggregate(dueRecipients, AssignmentNotification.class, Document.class)) {
+            flushRecipient(due.getString("_id"), now);
+        }
+    }
+
+    private void flushRecipient(String recipient, LocalDateTime now) {
+        String claimId = UUID.randomUUID().toString();
+        mongoTemplate.updateMulti(
+                Query.query(new Criteria().andOperator(Criteria.where("recipient").is(recipient), unclaimed(now))),
+                new Update().set("claimId", claimId).set("claimedAt", now),
+                AssignmentNotification.class);
+
+        Query claimed = Query.query(Criteria.where("claimId").is(claimId)).with(Sort.by("createdAt"));
+        List<AssignmentNotification> assignments = mongoTemplate.find(claimed, AssignmentNotification.class);
+        if (assignments.isEmpty()) {
+            // Another node claimed this buffer first
+            return;
+        }
+
+        AssignmentNotification latest = assignments.get(assignments.size() - 1);
+        Query byClaim = Query.query(Criteria.where("claimId").is(claimId));
+        if (!emailService.sendAssignmentDigest(recipient, latest.getRecipientName(), assignments)) {
+            // Hand the buffer back so the next flush retries it instead of waiting out the stale claim
+            mongoTemplate.updateMulti(byClaim, new Update().unset("claimId").unset("claimedAt"),
+                    AssignmentNotification.class);
+            return;
+        }
+        mongoTemplate.remove(byClaim, AssignmentNotification.class);
+
+        log.info("Coalesced {} assignment notifications into one email to: {}", assignments.size(), recipient);
+    }
+
+    /**
+     * Not claimed, or claimed by a node that died before finishing the flush.
+     */
+    private Criteria unclaimed(LocalDateTime now) {
+        return new Criteria().orOperator(
+                Criteria.where("claimId").exists(false),
+                Criteria.where("claimedAt").lt(now.minus(STALE_CLAIM)));
+    }
+}
@@ -0,0 +1,167 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.model.OutboxEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains the outbox to Kafka. Only the instance holding the relay lease publishes,
+ * so events leave in {@code _id} order. The lease is renewed before each batch and
+ * the drain stops as soon as a renewal fails, so {@code lease-duration} only has to
+ * cover one batch and its {@code send-timeout}. Each run sends one batch, waits for the
+ * acknowledgements and deletes the acknowledged prefix; on the first failure the
+ * rest of the batch is left in place and the relay backs off exponentially before
+ * retrying from that event. Delivery is at least once.
+ */
+@Component
+@ConditionalOnExpression("${application.outbox.relay.enabled:true} and '${application.events.transport:kafka}' == 'kafka'")
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final String LEASE_COLLECTION = "outbox_relay_lease";
+    private static final String LEASE_ID = "task-events";
+
+    private final MongoTemplate mongoTemplate;
+    private final KafkaTemplate<String, TaskEvent> kafkaTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration leaseDuration;
+    private final Duration maxBackoff;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private int consecutiveFailures;
+    private Instant backoffUntil = Instant.MIN;
+
+    public OutboxRelay(MongoTemplate mongoTemplate, KafkaTemplate<String, TaskEvent> kafkaTemplate,
+            @Value("${application.outbox.relay.batch-size}") int batchSize,
+            @Value("${application.outbox.relay.send-timeout}") Duration sendTimeout,
+            @Value("${application.outbox.relay.lease-duration}") Duration leaseDuration,
+            @Value("${application.outbox.relay.max-backoff}") Duration maxBackoff) {
+        this.mongoTemplate = mongoTemplate;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.leaseDuration = leaseDuration;
+        this.maxBackoff = maxBackoff;
+    }
+
+    @Scheduled(fixedDelayString = "${application.outbox.relay.poll-interval-ms}")
+    public void relay() {
+        if (Instant.now().isBefore(backoffUntil)) {
+            return;
+        }
+
+        List<OutboxEvent> batch;
+        do {
+            // Renewed before every batch so a long drain never outlives the lease
+            if (!acquireLease()) {
+                return;
+            }
+            batch = mongoTemplate.find(new Query()
+                    .with(Sort.by(Sort.Direction.ASC, "_id"))
+                    .limit(batchSize), OutboxEvent.class);
+        } while (!batch.isEmpty() && publish(batch) && batch.size() == batchSize);
+    }
+
+    /**
+     * @return true if the whole batch was acknowledged and removed
+     */
+    private boolean publish(List<OutboxEvent> batch) {
+        List<CompletableFuture<SendResult<String, TaskEvent>>> futures = new ArrayList<>(batch.size());
+        OutboxEvent failed = null;
+        Exception failure = null;
+        for (OutboxEvent event : batch) {
+            try {
+                futures.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getEvent()));
+            } catch (RuntimeException e) {
+                // send() throws directly when it cannot get topic metadata within max.block.ms
+                failed = event;
+                failure = e;
+                break;
+            }
+        }
+        kafkaTemplate.flush();
+
+        List<String> acknowledged = new ArrayList<>(batch.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                acknowledged.add(batch.get(i).getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed = batch.get(i);
+                failure = e;
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                failed = batch.get(i);
+                failure = e;
+                break;
+            }
+        }
+
+        if (!acknowledged.isEmpty()) {
+            mongoTemplate.remove(Query.query(Criteria.where("_id").in(acknowledged)), OutboxEvent.class);
+        }
+
+        if (failed == null) {
+            consecutiveFailures = 0;
+            log.debug("Relayed {} outbox events", acknowledged.size());
+            return true;
+        }
+
+        recordFailure(failed, failure);
+        return false;
+    }
+
+    private void recordFailure(OutboxEvent event, Exception failure) {
+        consecutiveFailures++;
+        long backoffMillis = Math.min(maxBackoff.toMillis(), 100L << Math.min(consecutiveFailures, 20));
+        backoffUntil = Instant.now().plusMillis(backoffMillis);
+
+        mongoTemplate.updateFirst(Query.query(Criteria.where("_id").is(event.getId())),
+                new Update().inc("attempts", 1).set("lastError", String.valueOf(failure.getMessage())),
+                OutboxEvent.class);
+        log.warn("Outbox relay failed on event {} (attempt {}), retrying in {} ms",
+                event.getId(), event.getAttempts() + 1, backoffMillis, failure);
+    }
+
+    private boolean acquireLease() {
+        Instant now = Instant.now();
+        Query query = Query.query(Criteria.where("_id").is(LEASE_ID)
+                .orOperator(Criteria.where("owner").is(instanceId), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update()
+                .set("owner", instanceId)
+                .set("expiresAt", now.plus(leaseDuration));
+        try {
+            mongoTemplate.upsert(query, update, LEASE_COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Another instance holds a live lease
+            return false;
+        }
+    }
+}
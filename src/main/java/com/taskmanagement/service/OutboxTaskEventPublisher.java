@@ -0,0 +1,44 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.event.TaskEventPublisher;
+import com.taskmanagement.model.OutboxEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kafka transport: records task events in the outbox instead of sending them
+ * inline, and {@link OutboxRelay} ships them to the topic. When Mongo transactions
+ * are enabled the insert joins the caller's transaction, so an event exists if and
+ * only if the change that produced it was committed.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.events", name = "transport", havingValue = "kafka", matchIfMissing = true)
+public class OutboxTaskEventPublisher implements TaskEventPublisher {
+
+    private final MongoTemplate mongoTemplate;
+    private final String taskEventsTopic;
+
+    public OutboxTaskEventPublisher(MongoTemplate mongoTemplate,
+            @Value("${application.kafka.topics.task-events}") String taskEventsTopic) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskEventsTopic = taskEventsTopic;
+    }
+
+    @Override
+    public void publish(List<TaskEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<OutboxEvent> entries = new ArrayList<>(events.size());
+        for (TaskEvent event : events) {
+            entries.add(new OutboxEvent(taskEventsTopic, event.getTaskId(), event));
+        }
+        mongoTemplate.insert(entries, OutboxEvent.class);
+    }
+}
@@ -1,49 +1,70 @@
 package com.taskmanagement.service;
 
+import com.mongodb.DBRef;
 import com.taskmanagement.dto.ProjectRequest;
 import com.taskmanagement.dto.ProjectResponse;
 import com.taskmanagement.dto.UserSummary;
 import com.taskmanagement.exception.BadRequestException;
 import com.taskmanagement.exception.ResourceNotFoundException;
 import com.taskmanagement.model.Project;
+import com.taskmanagement.model.Task;
 import com.taskmanagement.model.TaskStatus;
 import com.taskmanagement.model.User;
 import com.taskmanagement.repository.ProjectRepository;
-import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.security.UserPrincipal;
+import com.taskmanagement.util.LazyReferences;
 import com.taskmanagement.util.SecurityUtils;
+import org.bson.Document;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
 @Service
 public class ProjectService {
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
 
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
-    private final TaskRepository taskRepository;
+    private final TaskSummarySyncService taskSummarySyncService;
+    private final UserSummaryLoader userSummaryLoader;
+    private final MongoTemplate mongoTemplate;
 
     public ProjectService(ProjectRepository projectRepository, UserRepository userRepository,
-            TaskRepository taskRepository) {
+            TaskSummarySyncService taskSummarySyncService,
+            UserSummaryLoader userSummaryLoader, MongoTemplate mongoTemplate) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
-        this.taskRepository = taskRepository;
+        this.taskSummarySyncService = taskSummarySyncService;
+        this.userSummaryLoader = userSummaryLoader;
+        this.mongoTemplate = mongoTemplate;
     }
 
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
+    @CachePut(value = "projects", key = "#result.id")
     public ProjectResponse createProject(ProjectRequest request) {
         UserPrincipal currentUser = SecurityUtils.getCurrentUserPrincipal();
         User owner = currentUser.getUser();
@@ -66,7 +87,7 @@ public class ProjectService {
         return mapToResponse(project);
     }
 
-    @Cacheable(value = "projects", key = "#id")
+    @Cacheable(value = "projects", key = "#id", sync = true)
     public ProjectResponse getProjectById(String id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
@@ -80,20 +101,33 @@ public class ProjectService {
                 currentUser.getUser().getId(),
                 pageable);
 
-        return projects.map(this::mapToResponse);
+        List<String> projectIds = projects.getContent().stream()
+                .map(Project::getId)
+                .collect(Collectors.toList());
+        Map<String, List<String>> memberIds = memberIdsByProject(projectIds);
+
+        Map<String, UserSummary> users = userSummaryLoader.loadAll(projects.getContent().stream()
+                .flatMap(project -> referencedUserIds(project, memberIds).stream())
+                .collect(Collectors.toSet()));
+
+        Map<String, Map<String, Long>> taskCounts = countTasksByStatus(projectIds);
+
+        return projects.map(project -> mapToResponse(project, users, memberIds, taskCounts));
     }
 
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
+    @CachePut(value = "projects", key = "#id")
     public ProjectResponse updateProject(String id, ProjectRequest request) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
         UserPrincipal currentUser = SecurityUtils.getCurrentUserPrincipal();
-        if (!project.getOwner().getId().equals(currentUser.getUser().getId())) {
+        if (!currentUser.getUser().getId().equals(LazyReferences.idOf(project.getOwner(), User::getId))) {
             throw new BadRequestException("Only project owner can update the project");
         }
 
+        boolean renamed = !Objects.equals(project.getName(), request.getName());
+
         project.setName(request.getName());
         project.setDescription(request.getDescription());
         project.setStartDate(request.getStartDate());
@@ -108,17 +142,22 @@ public class ProjectService {
         project = projectRepository.save(project);
         log.info("Project updated: {}", project.getName());
 
+        // Tasks embed the project name, so push the rename down to them
+        if (renamed) {
+            taskSummarySyncService.syncProject(project);
+        }
+
         return mapToResponse(project);
     }
 
     @Transactional
-    @CacheEvict(value = "projects", allEntries = true)
+    @CacheEvict(value = "projects", key = "#id")
     public void deleteProject(String id) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
 
         UserPrincipal currentUser = SecurityUtils.getCurrentUserPrincipal();
-        if (!project.getOwner().getId().equals(currentUser.getUser().getId())) {
+        if (!currentUser.getUser().getId().equals(LazyReferences.idOf(project.getOwner(), User::getId))) {
             throw new BadRequestException("Only project owner can delete the project");
         }
 
@@ -127,6 +166,15 @@ public class ProjectService {
     }
 
     private ProjectResponse mapToResponse(Project project) {
+        Map<String, List<String>> memberIds = memberIdsByProject(List.of(project.getId()));
+        return mapToResponse(project,
+                userSummaryLoader.loadAll(referencedUserIds(project, memberIds)),
+                memberIds,
+                countTasksByStatus(List.of(project.getId())));
+    }
+
+    private ProjectResponse mapToResponse(Project project, Map<String, UserSummary> users,
+            Map<String, List<String>> memberIds, Map<String, Map<String, Long>> taskCounts) {
         ProjectResponse response = new ProjectResponse();
         response.setId(project.getId());
         response.setName(project.getName());
@@ -136,22 +184,81 @@ public class ProjectService {
         response.setArchived(project.isArchived());
         response.setCreatedAt(project.getCreatedAt());
         response.setUpdatedAt(project.getUpdatedAt());
+        response.setOwner(users.get(LazyReferences.idOf(project.getOwner(), User::getId)));
 
-        if (project.getMembers() != null) {
-            response.setMembers(project.getMembers().stream()
-                    .map(member -> new UserSummary(
-                            member.getId(),
-                            member.getUsername(),
-                            member.getEmail(),
-                            member.getFullName()))
-                    .collect(Collectors.toList()));
-        } else {
-            response.setMembers(new ArrayList<>());
-        }
+        response.setMembers(memberIds.getOrDefault(project.getId(), List.of()).stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
 
-        long totalTasks = taskRepository.countByProject(project);
-        long completedTasks = taskRepository.countByProjectAndStatus(project, TaskStatus.COMPLETED);
+        Map<String, Long> tasksByStatus = taskCounts.getOrDefault(project.getId(), new HashMap<>());
+        long totalTasks = tasksByStatus.values().stream().mapToLong(Long::longValue).sum();
+        long completedTasks = tasksByStatus.getOrDefault(TaskStatus.COMPLETED.name(), 0L);
+
+        response.setTaskStatistics(tasksByStatus);
+        response.setTotalTasks(totalTasks);
+        response.setCompletedTasks(completedTasks);
+        response.setProgress(totalTasks > 0 ? completedTasks * 100.0 / totalTasks : 0.0);
 
         return response;
     }
+
+    /**
+     * Task counts per status for each of the given projects, computed with a single
+     * grouped aggregation so a page of projects costs one round trip.
+     */
+    private Map<String, Map<String, Long>> countTasksByStatus(Collection<String> projectIds) {
+        Map<String, Map<String, Long>> counts = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return counts;
+        }
+
+        Aggregation aggregation = newAggregation(
+                match(Criteria.where("projectId").in(projectIds)),
+                group("projectId", "status").count().as("count"));
+        AggregationResults<Document> results = mongoTemplate.aggregate(aggregation, Task.class, Document.class);
+
+        results.getMappedResults().forEach(result -> {
+            Document key = result.get("_id", Document.class);
+            counts.computeIfAbsent(key.getString("projectId"), id -> new HashMap<>())
+                    .put(key.getString("status"), ((Number) result.get("count")).longValue());
+        });
+
+        return counts;
+    }
+
+    /**
+     * Member ids of each project, read from the stored DBRefs of all projects in one
+     * query. The lazy {@code members} list is a single proxy that can only reveal its
+     * ids by loading every member, so the ids are projected from the raw documents.
+     */
+    private Map<String, List<String>> memberIdsByProject(Collection<String> projectIds) {
+        Map<String, List<String>> memberIds = new HashMap<>();
+        if (projectIds.isEmpty()) {
+            return memberIds;
+        }
+
+        Query query = new Query(Criteria.where("_id").in(projectIds));
+        query.fields().include("members");
+        mongoTemplate.find(query, Document.class, mongoTemplate.getCollectionName(Project.class))
+                .forEach(document -> memberIds.put(document.get("_id").toString(),
+                        document.getList("members", Object.class, List.of()).stream()
+                                .filter(DBRef.class::isInstance)
+                                .map(member -> ((DBRef) member).getId().toString())
+                                .collect(Collectors.toList())));
+
+        return memberIds;
+    }
+
+    /**
+     * Owner id, read from the lazy reference without resolving it, plus member ids.
+     */
+    private Set<String> referencedUserIds(Project project, Map<String, List<String>> memberIds) {
+        Set<String> userIds = new HashSet<>(memberIds.getOrDefault(project.getId(), List.of()));
+        String ownerId = LazyReferences.idOf(project.getOwner(), User::getId);
+        if (ownerId != null) {
+            userIds.add(ownerId);
+        }
+        return userIds;
+    }
 }
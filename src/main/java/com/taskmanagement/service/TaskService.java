@@ -1,10 +1,19 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.dto.CountMode;
+import com.taskmanagement.dto.CursorPage;
+import com.taskmanagement.dto.SearchMode;
 import com.taskmanagement.dto.TaskFilterRequest;
 import com.taskmanagement.dto.TaskRequest;
 import com.taskmanagement.dto.TaskResponse;
 import com.taskmanagement.dto.UserSummary;
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.event.TaskEventPublisher;
+import com.taskmanagement.event.TaskEventType;
+import com.taskmanagement.exception.BadRequestException;
 import com.taskmanagement.exception.ResourceNotFoundException;
+import com.taskmanagement.model.EmbeddedUser;
+import com.taskmanagement.model.Priority;
 import com.taskmanagement.model.Project;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.TaskStatus;
@@ -13,18 +22,25 @@ import com.taskmanagement.repository.ProjectRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
 import com.taskmanagement.security.UserPrincipal;
+import com.taskmanagement.util.KeysetCursor;
 import com.taskmanagement.util.SecurityUtils;
+import com.taskmanagement.util.TrigramTokenizer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
 import org.springframework.data.support.PageableExecutionUtils;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -33,31 +49,39 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 @Service
 public class TaskService {
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     private final TaskRepository taskRepository;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final MongoTemplate mongoTemplate;
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TaskEventPublisher taskEventPublisher;
+    private final Cache filterCountCache;
+    private final Cache projectsCache;
 
     public TaskService(UserRepository userRepository, ProjectRepository projectRepository,
             TaskRepository taskRepository, EmailService emailService, MongoTemplate mongoTemplate,
-            KafkaTemplate<String, String> kafkaTemplate) {
+            TaskEventPublisher taskEventPublisher, CacheManager cacheManager) {
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
         this.emailService = emailService;
         this.mongoTemplate = mongoTemplate;
-        this.kafkaTemplate = kafkaTemplate;
+        this.taskEventPublisher = taskEventPublisher;
+        this.filterCountCache = cacheManager.getCache("taskCounts");
+        this.projectsCache = cacheManager.getCache("projects");
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
+    @CachePut(value = "tasks", key = "#result.id")
     public TaskResponse createTask(TaskRequest request) {
         UserPrincipal currentUser = SecurityUtils.getCurrentUserPrincipal();
 
@@ -74,6 +98,7 @@ public class TaskService {
         task.setDueDate(request.getDueDate());
         task.setTags(request.getTags());
         task.setEstimatedHours(request.getEstimatedHours());
+        refreshSearchGrams(task);
 
         if (request.getAssigneeId() != null) {
             User assignee = userRepository.findById(request.getAssigneeId())
@@ -85,22 +110,30 @@ public class TaskService {
                     assignee.getEmail(),
                     assignee.getFullName(),
                     task.getTitle(),
-                    project.getName());
-
-            // Publish Kafka event
-            publishTaskEvent("TASK_ASSIGNED", task.getId(), assignee.getId());
+                    project.getName(),
+                    task.getPriority());
         }
 
         task = taskRepository.save(task);
         log.info("Task created: {} in project: {}", task.getTitle(), project.getName());
 
-        // Publish Kafka event
-        publishTaskEvent("TASK_CREATED", task.getId(), currentUser.getUser().getId());
+        // Cached project responses carry task progress counts
+        projectsCache.evict(project.getId());
+
+        // Record events only once the task has an id
+        TaskEvent created = TaskEvent.of(TaskEventType.TASK_CREATED, task);
+        created.setActorId(currentUser.getUser().getId());
+        List<TaskEvent> events = new ArrayList<>();
+        events.add(created);
+        if (task.getAssigneeId() != null) {
+            events.add(TaskEvent.of(TaskEventType.TASK_ASSIGNED, task));
+        }
+        taskEventPublisher.publish(events);
 
         return mapToResponse(task);
     }
 
-    @Cacheable(value = "tasks", key = "#id")
+    @Cacheable(value = "tasks", key = "#id", sync = true)
     public TaskResponse getTaskById(String id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
@@ -113,16 +146,139 @@ public class TaskService {
         return tasks.map(this::mapToResponse);
     }
 
+    public CursorPage<TaskResponse> getTasksByCursor(String cursor, int size, String sortBy, String sortDirection) {
+        return findByCursor(new Query(), new ArrayList<>(), cursor, size, sortBy, sortDirection);
+    }
+
     public Page<TaskResponse> filterTasks(TaskFilterRequest filter) {
-        Query query = new Query();
+        Query query = newFilterQuery(filter);
+        List<Criteria> criteria = buildFilterCriteria(filter);
+
+        // Word searches rank by text score ahead of the requested sort
+        if (query instanceof TextQuery textQuery) {
+            textQuery.sortByScore();
+        }
+
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+        }
+
+        Sort.Direction direction = filter.getSortDirection().equalsIgnoreCase("ASC")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        Pageable pageable = PageRequest.of(
+                filter.getPage(),
+                filter.getSize(),
+                Sort.by(direction, filter.getSortBy()));
+
+        query.with(pageable);
+
+        CountMode countMode = filter.getCountMode() != null ? filter.getCountMode() : CountMode.EXACT;
+
+        if (countMode == CountMode.NONE) {
+            // Probe one extra row instead of counting; the reported total is only a
+            // lower bound that keeps hasNext/isLast correct for infinite scrolling.
+            query.limit(pageable.getPageSize() + 1);
+            List<Task> tasks = mongoTemplate.find(query, Task.class);
+            boolean hasNext = tasks.size() > pageable.getPageSize();
+            if (hasNext) {
+                tasks = tasks.subList(0, pageable.getPageSize());
+            }
+            long lowerBound = pageable.getOffset() + tasks.size() + (hasNext ? 1 : 0);
+
+            return new PageImpl<>(tasks, pageable, lowerBound).map(this::mapToResponse);
+        }
+
+        List<Task> tasks = mongoTemplate.find(query, Task.class);
+        Query countQuery = query.skip(0).limit(0);
+
+        // getPage only invokes the count when the page alone cannot determine the total
+        Page<Task> taskPage = PageableExecutionUtils.getPage(
+                tasks,
+                pageable,
+                () -> countMode == CountMode.ESTIMATED
+                        ? estimateCount(countQuery)
+                        : mongoTemplate.count(countQuery, Task.class));
+
+        return taskPage.map(this::mapToResponse);
+    }
+
+    public CursorPage<TaskResponse> filterTasksByCursor(TaskFilterRequest filter) {
+        return findByCursor(newFilterQuery(filter), buildFilterCriteria(filter), filter.getCursor(),
+                filter.getSize(), filter.getSortBy(), filter.getSortDirection());
+    }
+
+    /**
+     * Keyset pagination: orders by (sortBy, _id) and seeks past the cursor with a
+     * range predicate, so every page costs the same regardless of its depth. One
+     * extra row is fetched to tell whether another page follows.
+     */
+    private CursorPage<TaskResponse> findByCursor(Query query, List<Criteria> criteria, String cursor, int size,
+            String sortBy, String sortDirection) {
+        if (size <= 0) {
+            throw new BadRequestException("Page size must be positive");
+        }
+        size = Math.min(size, MAX_CURSOR_PAGE_SIZE);
+
+        Sort.Direction direction = sortDirection.equalsIgnoreCase("ASC")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        if (cursor != null && !cursor.isEmpty()) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            after.verifySort(sortBy, direction);
+            criteria.add(after.toCriteria());
+        }
+
+        if (!criteria.isEmpty()) {
+            query.addCriteria(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
+        }
+        query.with(Sort.by(direction, sortBy).and(Sort.by(direction, "id")));
+        query.limit(size + 1);
+
+        List<Task> tasks = mongoTemplate.find(query, Task.class);
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = tasks.get(tasks.size() - 1);
+            nextCursor = KeysetCursor.after(last, last.getId(), sortBy, direction).encode();
+        }
+
+        List<TaskResponse> content = tasks.stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    /**
+     * Approximate total for a filter: collection metadata when unfiltered, otherwise
+     * an exact count that is reused for the same filter until the cache entry expires.
+     */
+    private long estimateCount(Query countQuery) {
+        if (countQuery.getQueryObject().isEmpty()) {
+            return mongoTemplate.estimatedCount(Task.class);
+        }
+
+        String key = countQuery.getQueryObject().toString();
+        Long count = filterCountCache.get(key, () -> mongoTemplate.count(countQuery, Task.class));
+        return count != null ? count : 0L;
+    }
+
+    private List<Criteria> buildFilterCriteria(TaskFilterRequest filter) {
         List<Criteria> criteria = new ArrayList<>();
 
         if (filter.getProjectId() != null) {
-            criteria.add(Criteria.where("project.$id").is(filter.getProjectId()));
+            criteria.add(Criteria.where("projectId").is(filter.getProjectId()));
         }
 
         if (filter.getAssigneeId() != null) {
-            criteria.add(Criteria.where("assignee.$id").is(filter.getAssigneeId()));
+            criteria.add(Criteria.where("assigneeId").is(filter.getAssigneeId()));
         }
 
         if (filter.getStatus() != null) {
@@ -141,52 +297,66 @@ public class TaskService {
             criteria.add(Criteria.where("createdAt").gte(filter.getCreatedFrom()).lte(filter.getCreatedTo()));
         }
 
-        if (filter.getSearchTerm() != null && !filter.getSearchTerm().isEmpty()) {
+        if (hasSearchTerm(filter) && filter.getSearchMode() != SearchMode.TEXT) {
+            String term = filter.getSearchTerm();
+
+            // Every trigram of the term must be present, which the multikey index
+            // answers; the regex then only confirms the substring on those candidates.
+            // TaskSearchGramsMigration backfills older tasks before requests are served.
+            if (TrigramTokenizer.isSearchable(term)) {
+                criteria.add(Criteria.where("searchGrams").all(TrigramTokenizer.tokenize(term)));
+            }
+
+            String pattern = Pattern.quote(term);
             Criteria searchCriteria = new Criteria().orOperator(
-                    Criteria.where("title").regex(filter.getSearchTerm(), "i"),
-                    Criteria.where("description").regex(filter.getSearchTerm(), "i"));
+                    Criteria.where("title").regex(pattern, "i"),
+                    Criteria.where("description").regex(pattern, "i"));
             criteria.add(searchCriteria);
         }
 
-        if (!criteria.isEmpty()) {
-            query.addCriteria(new Criteria().andOperator(criteria.toArray(new Criteria[0])));
-        }
-
-        Sort.Direction direction = filter.getSortDirection().equalsIgnoreCase("ASC")
-                ? Sort.Direction.ASC
-                : Sort.Direction.DESC;
-
-        Pageable pageable = PageRequest.of(
-                filter.getPage(),
-                filter.getSize(),
-                Sort.by(direction, filter.getSortBy()));
-
-        query.with(pageable);
+        return criteria;
+    }
 
-        List<Task> tasks = mongoTemplate.find(query, Task.class);
-        long count = mongoTemplate.count(query.skip(0).limit(0), Task.class);
+    private Query newFilterQuery(TaskFilterRequest filter) {
+        if (hasSearchTerm(filter) && filter.getSearchMode() == SearchMode.TEXT) {
+            return TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(filter.getSearchTerm()));
+        }
+        return new Query();
+    }
 
-        Page<Task> taskPage = PageableExecutionUtils.getPage(
-                tasks,
-                pageable,
-                () -> count);
+    private boolean hasSearchTerm(TaskFilterRequest filter) {
+        return filter.getSearchTerm() != null && !filter.getSearchTerm().isBlank();
+    }
 
-        return taskPage.map(this::mapToResponse);
+    private void refreshSearchGrams(Task task) {
+        task.setSearchGrams(TrigramTokenizer.tokenize(task.getTitle(), task.getDescription()));
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
+    @CachePut(value = "tasks", key = "#id")
     public TaskResponse updateTask(String id, TaskRequest request) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
 
+        // Each event snapshots the task right after its own change, so consumers
+        // can replay them in order against counters without reading the task.
+        List<TaskEvent> events = new ArrayList<>();
+
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
-        task.setPriority(request.getPriority());
+        if (!Objects.equals(task.getPriority(), request.getPriority())) {
+            Priority oldPriority = task.getPriority();
+            task.setPriority(request.getPriority());
+
+            TaskEvent priorityChanged = TaskEvent.of(TaskEventType.TASK_PRIORITY_CHANGED, task);
+            priorityChanged.setPreviousPriority(oldPriority);
+            events.add(priorityChanged);
+        }
         task.setDueDate(request.getDueDate());
         task.setTags(request.getTags());
         task.setEstimatedHours(request.getEstimatedHours());
         task.setUpdatedAt(LocalDateTime.now());
+        refreshSearchGrams(task);
 
         if (request.getStatus() != null && !request.getStatus().equals(task.getStatus())) {
             TaskStatus oldStatus = task.getStatus();
@@ -196,52 +366,50 @@ public class TaskService {
                 task.setCompletedAt(LocalDateTime.now());
             }
 
-            publishTaskEvent("TASK_STATUS_CHANGED", task.getId(),
-                    String.format("%s->%s", oldStatus, request.getStatus()));
+            TaskEvent statusChanged = TaskEvent.of(TaskEventType.TASK_STATUS_CHANGED, task);
+            statusChanged.setPreviousStatus(oldStatus);
+            events.add(statusChanged);
         }
 
         if (request.getAssigneeId() != null &&
-                (task.getAssignee() == null || !task.getAssignee().getId().equals(request.getAssigneeId()))) {
+                !request.getAssigneeId().equals(task.getAssigneeId())) {
             User newAssignee = userRepository.findById(request.getAssigneeId())
                     .orElseThrow(() -> new ResourceNotFoundException("User", "id", request.getAssigneeId()));
+            String oldAssigneeId = task.getAssigneeId();
             task.setAssignee(newAssignee);
 
             emailService.sendTaskAssignmentEmail(
                     newAssignee.getEmail(),
                     newAssignee.getFullName(),
                     task.getTitle(),
-                    task.getProject().getName());
+                    task.getProjectSummary() != null ? task.getProjectSummary().getName() : null,
+                    task.getPriority());
 
-            publishTaskEvent("TASK_REASSIGNED", task.getId(), newAssignee.getId());
+            TaskEvent reassigned = TaskEvent.of(TaskEventType.TASK_REASSIGNED, task);
+            reassigned.setPreviousAssigneeId(oldAssigneeId);
+            events.add(reassigned);
         }
 
         task = taskRepository.save(task);
         log.info("Task updated: {}", task.getTitle());
+        projectsCache.evict(task.getProjectId());
+
+        taskEventPublisher.publish(events);
 
         return mapToResponse(task);
     }
 
     @Transactional
-    @CacheEvict(value = "tasks", allEntries = true)
+    @CacheEvict(value = "tasks", key = "#id")
     public void deleteTask(String id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
 
         taskRepository.delete(task);
         log.info("Task deleted: {}", task.getTitle());
+        projectsCache.evict(task.getProjectId());
 
-        publishTaskEvent("TASK_DELETED", id, null);
-    }
-
-    private void publishTaskEvent(String eventType, String taskId, String metadata) {
-        try {
-            String event = String.format("{\"type\":\"%s\",\"taskId\":\"%s\",\"metadata\":\"%s\",\"timestamp\":\"%s\"}",
-                    eventType, taskId, metadata, LocalDateTime.now());
-            kafkaTemplate.send("task-events", taskId, event);
-            log.info("Published Kafka event: {} for task: {}", eventType, taskId);
-        } catch (Exception e) {
-            log.error("Failed to publish Kafka event", e);
-        }
+        taskEventPublisher.publish(List.of(TaskEvent.of(TaskEventType.TASK_DELETED, task)));
     }
 
     private TaskResponse mapToResponse(Task task) {
@@ -249,9 +417,9 @@ public class TaskService {
         response.setId(task.getId());
         response.setTitle(task.getTitle());
         response.setDescription(task.getDescription());
-        if (task.getProject() != null) {
-            response.setProjectId(task.getProject().getId());
-            response.setProjectName(task.getProject().getName());
+        response.setProjectId(task.getProjectId());
+        if (task.getProjectSummary() != null) {
+            response.setProjectName(task.getProjectSummary().getName());
         }
         response.setStatus(task.getStatus());
         response.setPriority(task.getPriority());
@@ -261,24 +429,26 @@ public class TaskService {
         response.setCreatedAt(task.getCreatedAt());
         response.setUpdatedAt(task.getUpdatedAt());
 
-        // Map creator info
-        if (task.getCreator() != null) {
-            UserSummary creator = new UserSummary();
-            creator.setId(task.getCreator().getId());
-            creator.setUsername(task.getCreator().getUsername());
-            creator.setFullName(task.getCreator().getFullName());
-            response.setCreator(creator);
+        // Map creator info from the embedded summary
+        if (task.getCreatorId() != null) {
+            response.setCreator(toUserSummary(task.getCreatorId(), task.getCreatorSummary()));
         }
 
         // Map assignee if present
-        if (task.getAssignee() != null) {
-            UserSummary assignee = new UserSummary();
-            assignee.setId(task.getAssignee().getId());
-            assignee.setUsername(task.getAssignee().getUsername());
-            assignee.setFullName(task.getAssignee().getFullName());
-            response.setAssignee(assignee);
+        if (task.getAssigneeId() != null) {
+            response.setAssignee(toUserSummary(task.getAssigneeId(), task.getAssigneeSummary()));
         }
 
         return response;
     }
+
+    private UserSummary toUserSummary(String userId, EmbeddedUser embedded) {
+        UserSummary summary = new UserSummary();
+        summary.setId(userId);
+        if (embedded != null) {
+            summary.setUsername(embedded.getUsername());
+            summary.setFullName(embedded.getFullName());
+        }
+        return summary;
+    }
 }
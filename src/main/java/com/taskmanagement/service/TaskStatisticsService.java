@@ -0,0 +1,228 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.event.TaskEventHandler;
+import com.taskmanagement.model.Priority;
+import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskStatistics;
+import com.taskmanagement.model.TaskStatus;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.*;
+
+/**
+ * Maintains the {@code task_statistics} read model. Task events are folded into the
+ * global, per-project and per-assignee counter documents with {@code $inc} upserts,
+ * so analytics reads are a single lookup by key instead of an aggregation over all
+ * tasks. {@link #rebuild()} recomputes every counter from the tasks collection,
+ * e.g. after events were missed.
+ *
+ * <p>Delivery is at least once and a failed batch may have been partly written, so
+ * each counter document remembers the ids of the last {@code dedup-window} events
+ * applied to it and skips an event it has already seen. Each event updates each
+ * scope in one atomic write, which makes replaying any subset of a batch safe.
+ */
+@Service
+public class TaskStatisticsService implements TaskEventHandler {
+    private static final Logger log = LoggerFactory.getLogger(TaskStatisticsService.class);
+
+    private static final String APPLIED_EVENTS = "appliedEvents";
+
+    private final MongoTemplate mongoTemplate;
+    private final int dedupWindow;
+
+    public TaskStatisticsService(MongoTemplate mongoTemplate,
+            @Value("${application.analytics.read-model.dedup-window}") int dedupWindow) {
+        this.mongoTemplate = mongoTemplate;
+        this.dedupWindow = dedupWindow;
+    }
+
+    public TaskStatistics getStatistics(String key) {
+        Query query = Query.query(Criteria.where("id").is(key));
+        query.fields().exclude(APPLIED_EVENTS);
+        TaskStatistics statistics = mongoTemplate.findOne(query, TaskStatistics.class);
+        return statistics != null ? statistics : new TaskStatistics(key);
+    }
+
+    @Override
+    public void onEvents(List<TaskEvent> events) {
+        applyAll(events);
+    }
+
+    /**
+     * Folds a batch of events into the counters with one unordered bulk write. The
+     * {@code $inc} updates commute, so their order within the bulk does not matter.
+     * The counter documents are created first by a bulk of plain upserts, so the
+     * guarded updates never need to upsert: a guard that fails on an existing
+     * document would otherwise turn into a duplicate-key insert.
+     */
+    public void applyAll(List<TaskEvent> events) {
+        BulkOperations scopes = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskStatistics.class);
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskStatistics.class);
+        Set<String> touched = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        int operations = 0;
+
+        for (TaskEvent event : events) {
+            Map<String, Update> updates = updatesFor(event);
+            for (Map.Entry<String, Update> entry : updates.entrySet()) {
+                Update update = entry.getValue().set("updatedAt", now);
+                if (event.getEventId() == null) {
+                    // Published before events carried ids; nothing to deduplicate on
+                    bulk.upsert(Query.query(Criteria.where("id").is(entry.getKey())), update);
+                } else {
+                    if (touched.add(entry.getKey())) {
+                        scopes.upsert(Query.query(Criteria.where("id").is(entry.getKey())),
+                                new Update().setOnInsert("updatedAt", now));
+                    }
+                    update.push(APPLIED_EVENTS).slice(-dedupWindow).each(event.getEventId());
+                    bulk.updateOne(Query.query(Criteria.where("id").is(entry.getKey())
+                            .and(APPLIED_EVENTS).ne(event.getEventId())), update);
+                }
+                operations++;
+            }
+        }
+
+        if (operations == 0) {
+            return;
+        }
+        if (!touched.isEmpty()) {
+            scopes.execute();
+        }
+        bulk.execute();
+
+        log.debug("Applied {} task events as {} statistics updates", events.size(), operations);
+    }
+
+    private Map<String, Update> updatesFor(TaskEvent event) {
+        Map<String, Update> updates = new LinkedHashMap<>();
+        if (event.getType() == null) {
+            return updates;
+        }
+
+        switch (event.getType()) {
+            case TASK_CREATED -> forEachScope(event, updates,
+                    () -> countTask(1, event.getStatus(), event.getPriority()));
+            case TASK_DELETED -> forEachScope(event, updates,
+                    () -> countTask(-1, event.getStatus(), event.getPriority()));
+            case TASK_STATUS_CHANGED -> {
+                if (event.getPreviousStatus() != event.getStatus()) {
+                    forEachScope(event, updates, () -> new Update()
+                            .inc("byStatus." + event.getPreviousStatus(), -1)
+                            .inc("byStatus." + event.getStatus(), 1));
+                }
+            }
+            case TASK_PRIORITY_CHANGED -> {
+                if (event.getPreviousPriority() != event.getPriority()) {
+                    forEachScope(event, updates, () -> new Update()
+                            .inc("byPriority." + event.getPreviousPriority(), -1)
+                            .inc("byPriority." + event.getPriority(), 1));
+                }
+            }
+            case TASK_REASSIGNED -> {
+                if (event.getPreviousAssigneeId() != null) {
+                    updates.put(TaskStatistics.assigneeKey(event.getPreviousAssigneeId()),
+                            countTask(-1, event.getStatus(), event.getPriority()));
+                }
+                if (event.getAssigneeId() != null) {
+                    updates.put(TaskStatistics.assigneeKey(event.getAssigneeId()),
+                            countTask(1, event.getStatus(), event.getPriority()));
+                }
+            }
+            default -> {
+                // Other events do not affect the counters
+            }
+        }
+
+        return updates;
+    }
+
+    /**
+     * Recomputes all counters with two grouped aggregations (by project and by
+     * assignee), replaces the counter documents and drops scopes with no tasks left.
+     */
+    public int rebuild() {
+        Map<String, TaskStatistics> statistics = new HashMap<>();
+        statistics.put(TaskStatistics.GLOBAL, new TaskStatistics(TaskStatistics.GLOBAL));
+
+        accumulate(statistics, "projectId", TaskStatistics::projectKey, true);
+        accumulate(statistics, "assigneeId", TaskStatistics::assigneeKey, false);
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, TaskStatistics.class);
+        statistics.values().forEach(scope -> bulk.replaceOne(
+                Query.query(Criteria.where("id").is(scope.getId())),
+                scope,
+                FindAndReplaceOptions.options().upsert()));
+        bulk.execute();
+
+        mongoTemplate.remove(Query.query(Criteria.where("id").nin(statistics.keySet())), TaskStatistics.class);
+
+        log.info("Rebuilt task statistics for {} scopes", statistics.size());
+        return statistics.size();
+    }
+
+    private void forEachScope(TaskEvent event, Map<String, Update> updates, Supplier<Update> update) {
+        updates.put(TaskStatistics.GLOBAL, update.get());
+        if (event.getProjectId() != null) {
+            updates.put(TaskStatistics.projectKey(event.getProjectId()), update.get());
+        }
+        if (event.getAssigneeId() != null) {
+            updates.put(TaskStatistics.assigneeKey(event.getAssigneeId()), update.get());
+        }
+    }
+
+    private Update countTask(int delta, TaskStatus status, Priority priority) {
+        return new Update()
+                .inc("total", delta)
+                .inc("byStatus." + status, delta)
+                .inc("byPriority." + priority, delta);
+    }
+
+    private void accumulate(Map<String, TaskStatistics> statistics, String scopeField,
+            Function<String, String> keyFor, boolean includeGlobal) {
+        Aggregation aggregation = newAggregation(group(scopeField, "status", "priority").count().as("count"))
+                .withOptions(newAggregationOptions().allowDiskUse(true).build());
+
+        mongoTemplate.aggregate(aggregation, Task.class, Document.class).getMappedResults().forEach(result -> {
+            Document group = result.get("_id", Document.class);
+            String scopeId = group.getString(scopeField);
+            String status = String.valueOf(group.get("status"));
+            String priority = String.valueOf(group.get("priority"));
+            long count = ((Number) result.get("count")).longValue();
+
+            if (scopeId != null) {
+                add(statistics.computeIfAbsent(keyFor.apply(scopeId), TaskStatistics::new), status, priority, count);
+            }
+            if (includeGlobal) {
+                add(statistics.get(TaskStatistics.GLOBAL), status, priority, count);
+            }
+        });
+    }
+
+    private void add(TaskStatistics scope, String status, String priority, long count) {
+        scope.setTotal(scope.getTotal() + count);
+        scope.getByStatus().merge(status, count, Long::sum);
+        scope.getByPriority().merge(priority, count, Long::sum);
+    }
+}
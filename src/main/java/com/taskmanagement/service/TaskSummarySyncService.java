@@ -0,0 +1,58 @@
+package com.taskmanagement.service;
+
+import com.mongodb.client.result.UpdateResult;
+import com.taskmanagement.model.EmbeddedProject;
+import com.taskmanagement.model.Project;
+import com.taskmanagement.model.Task;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the project summaries embedded in task documents in line with their
+ * source projects. Each call is a single multi-document update keyed on the
+ * indexed reference id, so renaming a project never loads its tasks. Users cannot
+ * be edited after registration, so embedded user summaries need no sync yet.
+ */
+@Service
+public class TaskSummarySyncService {
+    private static final Logger log = LoggerFactory.getLogger(TaskSummarySyncService.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final CacheManager cacheManager;
+
+    public TaskSummarySyncService(MongoTemplate mongoTemplate, CacheManager cacheManager) {
+        this.mongoTemplate = mongoTemplate;
+        this.cacheManager = cacheManager;
+    }
+
+    public void syncProject(Project project) {
+        UpdateResult result = mongoTemplate.updateMulti(
+                new Query(Criteria.where("projectId").is(project.getId())),
+                new Update().set("projectSummary", EmbeddedProject.from(project)),
+                Task.class);
+        if (result.getModifiedCount() > 0) {
+            clearCachedTasks();
+        }
+        log.info("Refreshed project summary on {} tasks for project: {}", result.getModifiedCount(), project.getId());
+    }
+
+    /**
+     * Task responses are cached by task id, so the ones embedding the old summary
+     * cannot be told apart; one clear, broadcast as a single invalidation, is cheaper
+     * than looking the tasks up and evicting them one message at a time. Renames are
+     * rare next to task reads, which refill the cache on their next miss.
+     */
+    private void clearCachedTasks() {
+        Cache tasksCache = cacheManager.getCache("tasks");
+        if (tasksCache != null) {
+            tasksCache.clear();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.UserSummary;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Batch loader for {@link UserSummary} values. Response mappers first collect every
+ * user id a page needs and resolve them here in one go: ids already in the shared
+ * {@code users} cache are served from memory and the rest are fetched with a single
+ * {@code findAllById}, so mapping a page never issues one lookup per user. Users
+ * cannot be edited after registration, so summaries only leave the cache when its
+ * {@code expireAfterWrite} elapses.
+ */
+@Component
+public class UserSummaryLoader {
+
+    private final UserRepository userRepository;
+    private final Cache usersCache;
+
+    public UserSummaryLoader(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.usersCache = cacheManager.getCache("users");
+    }
+
+    public Map<String, UserSummary> loadAll(Collection<String> userIds) {
+        Map<String, UserSummary> summaries = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+
+        for (String userId : userIds) {
+            if (userId == null || summaries.containsKey(userId)) {
+                continue;
+            }
+            UserSummary cached = usersCache.get(userId, UserSummary.class);
+            if (cached != null) {
+                summaries.put(userId, cached);
+            } else {
+                misses.add(userId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (User user : userRepository.findAllById(misses)) {
+                // A read-through fill, so it stays local instead of invalidating other nodes
+                UserSummary summary = usersCache.get(user.getId(), () -> toSummary(user));
+                summaries.put(user.getId(), summary);
+            }
+        }
+
+        return summaries;
+    }
+
+    public UserSummary load(String userId) {
+        return userId != null ? loadAll(List.of(userId)).get(userId) : null;
+    }
+
+    private UserSummary toSummary(User user) {
+        return new UserSummary(user.getId(), user.getUsername(), user.getEmail(), user.getFullName());
+    }
+}
@@ -0,0 +1,170 @@
+package com.taskmanagement.util;
+
+import com.taskmanagement.config.ConcurrencyLimitConfig.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sheds load with 503 once an endpoint group has more requests in flight than its
+ * adaptive limit allows, so a slow database backs requests off at the edge instead
+ * of parking every Tomcat worker behind it. Runs ahead of the security chain so a
+ * rejected request costs almost nothing.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class ConcurrencyLimitingFilter extends OncePerRequestFilter {
+
+    private static final String OTHER_GROUP = "other";
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> knownGroups;
+    private final Map<String, GroupLimit> limits = new ConcurrentHashMap<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ConcurrencyLimitingFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.knownGroups = new HashSet<>(properties.getGroups());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = pathOf(request);
+        return properties.getExcludedPaths().stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        GroupLimit groupLimit = limits.computeIfAbsent(groupOf(request), this::createGroupLimit);
+
+        if (!groupLimit.limit.tryAcquire()) {
+            groupLimit.rejected.increment();
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter()
+                    .write("{\"success\":false,\"message\":\"Service is busy. Please try again shortly.\"}");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean releaseOnAsyncComplete = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // The permit is held until the asynchronous response actually completes
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(groupLimit.limit, start));
+                releaseOnAsyncComplete = true;
+            }
+        } finally {
+            if (!releaseOnAsyncComplete) {
+                groupLimit.limit.release(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private String groupOf(HttpServletRequest request) {
+        String path = pathOf(request);
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        String segment = end < 0 ? path.substring(start) : path.substring(start, end);
+        // Unknown segments collapse into one group so arbitrary URLs cannot grow the map
+        return knownGroups.contains(segment) ? segment : OTHER_GROUP;
+    }
+
+    private GroupLimit createGroupLimit(String group) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getLatencyThreshold().toNanos(),
+                properties.getBackoffRatio());
+
+        Gauge.builder("http.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("group", group)
+                .description("Current adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("group", group)
+                .description("Requests currently in flight")
+                .register(meterRegistry);
+        Counter rejected = Counter.builder("http.concurrency.rejected")
+                .tag("group", group)
+                .description("Requests shed because the concurrency limit was reached")
+                .register(meterRegistry);
+
+        return new GroupLimit(limit, rejected);
+    }
+
+    private static class GroupLimit {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final Counter rejected;
+
+        GroupLimit(AdaptiveConcurrencyLimit limit, Counter rejected) {
+            this.limit = limit;
+            this.rejected = rejected;
+        }
+    }
+
+    private static class ReleasingAsyncListener implements AsyncListener {
+
+        private final AdaptiveConcurrencyLimit limit;
+        private final long start;
+
+        ReleasingAsyncListener(AdaptiveConcurrencyLimit limit, long start) {
+            this.limit = limit;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.release(System.nanoTime() - start);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskmanagement.util;
+
+import com.taskmanagement.exception.BadRequestException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination. It records the sort field and
+ * direction of the listing together with the sort value and id of the last row
+ * returned, so the next page can be fetched with a range predicate instead of
+ * skipping over everything that came before it.
+ */
+public class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final Object value;
+    private final String id;
+
+    public KeysetCursor(String sortBy, Sort.Direction direction, Object value, String id) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Builds the cursor pointing just past {@code entity}, reading the sort value
+     * from the entity property named by {@code sortBy}.
+     */
+    public static KeysetCursor after(Object entity, String id, String sortBy, Sort.Direction direction) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        Object sortValue;
+        try {
+            sortValue = wrapper.getPropertyValue(sortBy);
+        } catch (BeansException e) {
+            throw new BadRequestException("Unsupported sort field: " + sortBy);
+        }
+        if (sortValue instanceof Enum<?> enumValue) {
+            sortValue = enumValue.name();
+        }
+        return new KeysetCursor(sortBy, direction, sortValue, id);
+    }
+
+    public static KeysetCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, 6);
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new KeysetCursor(parts[1], Sort.Direction.fromString(parts[2]),
+                    decodeValue(parts[3], parts[5]), parts[4]);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortBy, direction.name(), typeTag(value), id,
+                value != null ? value.toString() : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rejects cursors issued for a different ordering than the one requested.
+     */
+    public void verifySort(String expectedSortBy, Sort.Direction expectedDirection) {
+        if (!sortBy.equals(expectedSortBy) || direction != expectedDirection) {
+            throw new BadRequestException("Cursor does not match the requested sort order");
+        }
+    }
+
+    /**
+     * Range predicate selecting rows strictly after this cursor in
+     * {@code (sortBy, _id)} order. Missing/null sort values sort lowest in MongoDB,
+     * so they come first ascending and last descending.
+     */
+    public Criteria toCriteria() {
+        boolean ascending = direction.isAscending();
+        Criteria sameValueNextId = ascending
+                ? Criteria.where("id").gt(id)
+                : Criteria.where("id").lt(id);
+
+        if (value == null) {
+            Criteria nullTies = new Criteria().andOperator(Criteria.where(sortBy).is(null), sameValueNextId);
+            return ascending
+                    ? new Criteria().orOperator(nullTies, Criteria.where(sortBy).ne(null))
+                    : nullTies;
+        }
+
+        Criteria ties = new Criteria().andOperator(Criteria.where(sortBy).is(value), sameValueNextId);
+        return ascending
+                ? new Criteria().orOperator(Criteria.where(sortBy).gt(value), ties)
+                : new Criteria().orOperator(Criteria.where(sortBy).lt(value), ties, Criteria.where(sortBy).is(null));
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    private static String typeTag(Object value) {
+        if (value == null) {
+            return "n";
+        }
+        if (value instanceof LocalDateTime) {
+            return "t";
+        }
+        if (value instanceof Number) {
+            return "i";
+        }
+        if (value instanceof String) {
+            return "s";
+        }
+        throw new BadRequestException("Unsupported sort field type: " + value.getClass().getSimpleName());
+    }
+
+    private static Object decodeValue(String tag, String raw) {
+        return switch (tag) {
+            case "n" -> null;
+            case "t" -> LocalDateTime.parse(raw);
+            case "i" -> Long.parseLong(raw);
+            case "s" -> raw;
+            default -> throw new IllegalArgumentException("Unknown cursor value type: " + tag);
+        };
+    }
+}
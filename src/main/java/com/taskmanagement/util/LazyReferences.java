@@ -0,0 +1,30 @@
+package com.taskmanagement.util;
+
+import com.mongodb.DBRef;
+import org.springframework.data.mongodb.core.convert.LazyLoadingProxy;
+
+import java.util.function.Function;
+
+/**
+ * Helpers for single-valued {@code @DBRef(lazy = true)} associations. Reading the
+ * referenced id through the proxy's {@link DBRef} avoids the extra round trip that
+ * calling a getter on the proxy would trigger. A lazy collection is one proxy for
+ * the whole list with no {@link DBRef} of its own, so its ids have to be projected
+ * from the stored document instead.
+ */
+public final class LazyReferences {
+
+    private LazyReferences() {
+    }
+
+    public static <T> String idOf(T reference, Function<T, String> idAccessor) {
+        if (reference == null) {
+            return null;
+        }
+        if (reference instanceof LazyLoadingProxy proxy) {
+            DBRef dbRef = proxy.toDBRef();
+            return dbRef != null ? dbRef.getId().toString() : null;
+        }
+        return idAccessor.apply(reference);
+    }
+}
@@ -1,24 +1,46 @@
 package com.taskmanagement.util;
 
-import com.google.common.util.concurrent.RateLimiter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.config.RateLimitConfig.EndpointCost;
+import com.taskmanagement.config.RateLimitConfig.RateLimitProperties;
+import com.taskmanagement.security.UserPrincipal;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Per-client token-bucket rate limiting. Runs after the security filter chain, so
+ * authenticated requests are limited per user and anonymous ones per client IP.
+ * Buckets live in a bounded Caffeine map and are dropped once a client has been
+ * idle for {@code idle-timeout}.
+ */
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
-    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final Cache<String, TokenBucket> buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
-    public RateLimitingFilter(@Value("${application.rate-limit.requests-per-second}") double requestsPerSecond) {
-        this.rateLimiter = RateLimiter.create(requestsPerSecond);
+    public RateLimitingFilter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxClients())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
     }
 
     @Override
@@ -27,13 +49,44 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        if (rateLimiter.tryAcquire()) {
+        TokenBucket bucket = resolveBucket(request);
+        long waitNanos = bucket.tryConsume(costOf(request));
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(bucket.getCapacity()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(bucket.availableTokens()));
+
+        if (waitNanos == 0) {
             filterChain.doFilter(request, response);
         } else {
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setHeader("X-RateLimit-Reset", String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
             response.getWriter()
                     .write("{\"success\":false,\"message\":\"Too many requests. Please try again later.\"}");
-            response.setContentType("application/json");
         }
     }
+
+    private TokenBucket resolveBucket(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return buckets.get("user:" + principal.getUser().getId(),
+                    key -> new TokenBucket(properties.getBurst(), properties.getRequestsPerSecond()));
+        }
+        return buckets.get("ip:" + request.getRemoteAddr(),
+                key -> new TokenBucket(properties.getAnonymousBurst(), properties.getAnonymousRequestsPerSecond()));
+    }
+
+    private int costOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (EndpointCost endpointCost : properties.getCosts()) {
+            boolean methodMatches = !StringUtils.hasText(endpointCost.getMethod())
+                    || endpointCost.getMethod().equalsIgnoreCase(request.getMethod());
+            if (methodMatches && pathMatcher.match(endpointCost.getPattern(), path)) {
+                return endpointCost.getCost();
+            }
+        }
+        return properties.getDefaultCost();
+    }
 }
@@ -0,0 +1,56 @@
+package com.taskmanagement.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket refilled continuously from {@link System#nanoTime()}. Each client
+ * owns its own bucket, so the monitor is only contended by that client's own
+ * concurrent requests.
+ */
+public class TokenBucket {
+
+    private final int capacity;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(int capacity, double tokensPerSecond) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes {@code cost} tokens if available.
+     *
+     * @return 0 when the tokens were taken, otherwise the nanoseconds until enough
+     * tokens will have accumulated
+     */
+    public synchronized long tryConsume(int cost) {
+        refill();
+        // A cost above the capacity could never be satisfied, so it drains a full bucket instead
+        double needed = Math.min(cost, capacity);
+        if (tokens >= needed) {
+            tokens -= needed;
+            return 0;
+        }
+        return (long) Math.ceil((needed - tokens) / tokensPerNano);
+    }
+
+    public synchronized long availableTokens() {
+        refill();
+        return (long) tokens;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
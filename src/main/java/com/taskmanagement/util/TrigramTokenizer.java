@@ -0,0 +1,43 @@
+package com.taskmanagement.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits text into lower-cased, whitespace-normalised character trigrams. Tasks
+ * store the trigrams of their title and description in an indexed array, and a
+ * substring search asks for documents holding every trigram of the search term,
+ * which narrows the candidates through the index before any regex is evaluated.
+ */
+public final class TrigramTokenizer {
+
+    public static final int GRAM_LENGTH = 3;
+
+    private TrigramTokenizer() {
+    }
+
+    public static List<String> tokenize(String... texts) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String text : texts) {
+            String normalized = normalize(text);
+            for (int i = 0; i + GRAM_LENGTH <= normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return new ArrayList<>(grams);
+    }
+
+    public static boolean isSearchable(String term) {
+        return normalize(term).length() >= GRAM_LENGTH;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,123 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.Priority;
+import com.taskmanagement.model.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskEventCodecTest {
+
+    @Test
+    void roundTripsEveryField() {
+        TaskEvent event = fullEvent();
+
+        TaskEvent decoded = TaskEventCodec.decode(TaskEventCodec.encode(event));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void roundTripsSparseEventsAndNonObjectIdIds() {
+        TaskEvent event = new TaskEvent();
+        event.setType(TaskEventType.TASK_DELETED);
+        event.setTaskId("legacy-task-42");
+        event.setOccurredAt(null);
+
+        TaskEvent decoded = TaskEventCodec.decode(TaskEventCodec.encode(event));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void encodesObjectIdsCompactly() {
+        TaskEvent event = fullEvent();
+
+        // Header (5) + 5 ids at 13 bytes + 4 enums + epoch millis (8) + event id (13)
+        assertThat(TaskEventCodec.encode(event)).hasSize(5 + 5 * 13 + 4 + 8 + 13);
+    }
+
+    @Test
+    void decodesKnownPrefixOfNewerSchema() throws IOException {
+        TaskEvent event = fullEvent();
+        byte[] current = TaskEventCodec.encode(event);
+
+        // A schema 3 producer sets an extra presence bit and appends its field at the end
+        ByteArrayOutputStream newer = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(newer)) {
+            out.writeByte(TaskEventCodec.MAGIC);
+            out.writeByte(3);
+            out.writeByte(current[2]);
+            int presence = ((current[3] & 0xFF) << 8 | (current[4] & 0xFF)) | 1 << 11;
+            out.writeShort(presence);
+            out.write(Arrays.copyOfRange(current, 5, current.length));
+            out.writeUTF("field added in schema 3");
+        }
+
+        TaskEvent decoded = TaskEventCodec.decode(newer.toByteArray());
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void decodesSchemaOnePayloadsWithoutAnEventId() {
+        TaskEvent event = fullEvent();
+        event.setEventId(null);
+        byte[] schemaOne = TaskEventCodec.encode(event);
+        schemaOne[1] = 1;
+
+        TaskEvent decoded = TaskEventCodec.decode(schemaOne);
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(event);
+    }
+
+    @Test
+    void unknownEnumOrdinalsDecodeAsNull() {
+        TaskEvent event = new TaskEvent();
+        event.setType(TaskEventType.TASK_STATUS_CHANGED);
+        event.setStatus(TaskStatus.values()[0]);
+        byte[] data = TaskEventCodec.encode(event);
+        // Status is the first field after the header here
+        data[5] = (byte) 200;
+
+        assertThat(TaskEventCodec.decode(data).getStatus()).isNull();
+    }
+
+    @Test
+    void rejectsForeignAndTruncatedPayloads() {
+        byte[] data = TaskEventCodec.encode(fullEvent());
+        byte[] schemaZero = data.clone();
+        schemaZero[1] = 0;
+
+        assertThatThrownBy(() -> TaskEventCodec.decode("{\"type\":1}".getBytes()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TaskEventCodec.decode(schemaZero))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported task event schema 0");
+        assertThatThrownBy(() -> TaskEventCodec.decode(Arrays.copyOf(data, data.length - 3)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private TaskEvent fullEvent() {
+        TaskEvent event = new TaskEvent();
+        event.setType(TaskEventType.TASK_REASSIGNED);
+        event.setTaskId("65f0c0ffee65f0c0ffee0001");
+        event.setProjectId("65f0c0ffee65f0c0ffee0002");
+        event.setAssigneeId("65f0c0ffee65f0c0ffee0003");
+        event.setPreviousAssigneeId("65f0c0ffee65f0c0ffee0004");
+        event.setStatus(TaskStatus.values()[1]);
+        event.setPreviousStatus(TaskStatus.values()[0]);
+        event.setPriority(Priority.HIGH);
+        event.setPreviousPriority(Priority.LOW);
+        event.setActorId("65f0c0ffee65f0c0ffee0005");
+        event.setOccurredAt(LocalDateTime.of(2024, 5, 6, 7, 8, 9, 123_000_000));
+        return event;
+    }
+}
@@ -0,0 +1,223 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.KafkaConfig;
+import com.taskmanagement.event.TaskEvent;
+import com.taskmanagement.event.TaskEventCodec;
+import com.taskmanagement.event.TaskEventHandler;
+import com.taskmanagement.event.TaskEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {KafkaConfig.class, KafkaConsumerService.class, KafkaConsumerServiceTest.TestConfig.class},
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "spring.kafka.listener.auto-startup=true",
+                "spring.kafka.admin.auto-create=true"
+        })
+@ImportAutoConfiguration(KafkaAutoConfiguration.class)
+@EmbeddedKafka
+class KafkaConsumerServiceTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private RecordingHandler handler;
+
+    @Autowired
+    private KafkaTemplate<String, TaskEvent> taskEventKafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @Value("${application.kafka.topics.task-events}")
+    private String taskEventsTopic;
+
+    @Value("${application.kafka.topics.task-events-failed}")
+    private String taskEventsFailedTopic;
+
+    @Test
+    void appliesAWholeBatchWithOneCallPerHandler() throws Exception {
+        List<String> taskIds = taskIds(5);
+
+        sendWhileStopped(taskIds);
+
+        awaitApplied(taskIds);
+        assertThat(handler.calls).anySatisfy(call ->
+                assertThat(call).extracting(TaskEvent::getTaskId).containsExactlyElementsOf(taskIds));
+    }
+
+    @Test
+    void routesAFailingEventThroughTheRetryTopicsAndKeepsTheRestOfTheBatch() throws Exception {
+        List<String> taskIds = taskIds(3);
+        String failing = taskIds.get(1);
+        handler.failing.add(failing);
+
+        sendWhileStopped(taskIds);
+
+        awaitApplied(List.of(taskIds.get(0), taskIds.get(2)));
+        awaitRecord(taskEventsFailedTopic, record -> failing.equals(taskIdOf(record)));
+        handler.failing.remove(failing);
+        awaitApplied(List.of(failing));
+    }
+
+    @Test
+    void parksEventsThatExhaustTheRetriesOnTheDlt() throws Exception {
+        String dead = taskIds(1).get(0);
+        handler.failing.add(dead);
+
+        taskEventKafkaTemplate.send(taskEventsTopic, "project", event(dead)).get();
+
+        awaitRecord(taskEventsFailedTopic + "-dlt", record -> dead.equals(taskIdOf(record)));
+        assertThat(handler.applied).doesNotContainKey(dead);
+    }
+
+    @Test
+    void sendsUndecodablePayloadsStraightToTheDlt() throws Exception {
+        byte[] garbage = UUID.randomUUID().toString().getBytes();
+        String next = taskIds(1).get(0);
+
+        rawKafkaTemplate().send(taskEventsTopic, "project", garbage).get();
+        taskEventKafkaTemplate.send(taskEventsTopic, "project", event(next)).get();
+
+        awaitRecord(taskEventsFailedTopic + "-dlt", record -> Arrays.equals(garbage, record.value()));
+        awaitApplied(List.of(next));
+    }
+
+    private void sendWhileStopped(List<String> taskIds) throws Exception {
+        // Queue every record before the listener polls so they arrive as one batch
+        MessageListenerContainer container = registry.getListenerContainers().stream()
+                .filter(candidate -> Arrays.asList(candidate.getContainerProperties().getTopics()).contains(taskEventsTopic))
+                .findFirst()
+                .orElseThrow();
+        container.stop();
+        for (String taskId : taskIds) {
+            taskEventKafkaTemplate.send(taskEventsTopic, "project", event(taskId));
+        }
+        taskEventKafkaTemplate.flush();
+        container.start();
+    }
+
+    private void awaitApplied(List<String> taskIds) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!handler.applied.keySet().containsAll(taskIds) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(handler.applied).containsKeys(taskIds.toArray(String[]::new));
+    }
+
+    private void awaitRecord(String topic, Predicate<ConsumerRecord<String, byte[]>> match) {
+        Map<String, Object> properties = KafkaTestUtils.consumerProps(UUID.randomUUID().toString(), "false", broker);
+        properties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        try (Consumer<String, byte[]> consumer = new DefaultKafkaConsumerFactory<>(
+                properties, new StringDeserializer(), new ByteArrayDeserializer()).createConsumer()) {
+            consumer.subscribe(List.of(topic));
+            long deadline = System.nanoTime() + TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(Duration.ofMillis(200))) {
+                    if (match.test(record)) {
+                        return;
+                    }
+                }
+            }
+        }
+        throw new AssertionError("No matching record on " + topic + " within " + TIMEOUT);
+    }
+
+    private KafkaTemplate<String, byte[]> rawKafkaTemplate() {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(broker), new StringSerializer(), new ByteArraySerializer()));
+    }
+
+    private static String taskIdOf(ConsumerRecord<String, byte[]> record) {
+        try {
+            return TaskEventCodec.decode(record.value()).getTaskId();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static List<String> taskIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> UUID.randomUUID().toString())
+                .toList();
+    }
+
+    private static TaskEvent event(String taskId) {
+        TaskEvent event = new TaskEvent();
+        event.setType(TaskEventType.TASK_CREATED);
+        event.setTaskId(taskId);
+        event.setProjectId("project");
+        return event;
+    }
+
+    static class RecordingHandler implements TaskEventHandler {
+
+        final List<List<TaskEvent>> calls = new CopyOnWriteArrayList<>();
+        final Map<String, TaskEvent> applied = new ConcurrentHashMap<>();
+        final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void onEvents(List<TaskEvent> events) {
+            calls.add(List.copyOf(events));
+            for (TaskEvent event : events) {
+                if (failing.contains(event.getTaskId())) {
+                    throw new IllegalStateException("Refusing task " + event.getTaskId());
+                }
+            }
+            events.forEach(event -> applied.put(event.getTaskId(), event));
+        }
+    }
+
+    @TestConfiguration
+    static class TestConfig {
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void clampsInitialLimitIntoBounds() {
+        assertThat(new AdaptiveConcurrencyLimit(1, 5, 50, THRESHOLD, 0.5).getLimit()).isEqualTo(5);
+        assertThat(new AdaptiveConcurrencyLimit(500, 5, 50, THRESHOLD, 0.5).getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    void rejectsOnceInFlightReachesLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, THRESHOLD, 0.5);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.getInFlight()).isEqualTo(2);
+
+        limit.release(FAST);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void growsAdditivelyOnFastResponsesWhileTheLimitIsInUse() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4, 1, 10, THRESHOLD, 0.5);
+        for (int i = 0; i < 4; i++) {
+            limit.tryAcquire();
+        }
+
+        limit.release(FAST);
+
+        assertThat(limit.getLimit()).isEqualTo(5);
+    }
+
+    @Test
+    void doesNotGrowWhileMostlyIdle() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 20, THRESHOLD, 0.5);
+        limit.tryAcquire();
+
+        limit.release(FAST);
+
+        assertThat(limit.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shrinksMultiplicativelyOnSlowResponsesDownToTheMinimum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(16, 3, 20, THRESHOLD, 0.5);
+
+        limit.tryAcquire();
+        limit.release(SLOW);
+        assertThat(limit.getLimit()).isEqualTo(8);
+
+        for (int i = 0; i < 5; i++) {
+            limit.tryAcquire();
+            limit.release(SLOW);
+        }
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void neverGrowsPastTheMaximum() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3, 1, 3, THRESHOLD, 0.5);
+        for (int i = 0; i < 3; i++) {
+            limit.tryAcquire();
+        }
+
+        limit.release(FAST);
+
+        assertThat(limit.getLimit()).isEqualTo(3);
+    }
+}
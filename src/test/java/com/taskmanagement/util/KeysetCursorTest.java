@@ -0,0 +1,84 @@
+package com.taskmanagement.util;
+
+import com.taskmanagement.exception.BadRequestException;
+import com.taskmanagement.model.Priority;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void roundTripsEachValueType() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_000_000);
+        Object[] values = {createdAt, 42L, "a|b title", null};
+
+        for (Object value : values) {
+            KeysetCursor decoded = KeysetCursor.decode(
+                    new KeysetCursor("field", Sort.Direction.DESC, value, "65f0c0ffee").encode());
+
+            assertThat(decoded.getSortBy()).isEqualTo("field");
+            assertThat(decoded.getDirection()).isEqualTo(Sort.Direction.DESC);
+            assertThat(decoded.toCriteria().getCriteriaObject())
+                    .isEqualTo(new KeysetCursor("field", Sort.Direction.DESC, value, "65f0c0ffee")
+                            .toCriteria().getCriteriaObject());
+        }
+    }
+
+    @Test
+    void encodesEnumSortValuesByName() {
+        TaskLike task = new TaskLike(Priority.HIGH);
+
+        KeysetCursor cursor = KeysetCursor.decode(
+                KeysetCursor.after(task, "id-1", "priority", Sort.Direction.ASC).encode());
+
+        Document criteria = cursor.toCriteria().getCriteriaObject();
+        assertThat(criteria.toJson()).contains("\"HIGH\"");
+    }
+
+    @Test
+    void rejectsTamperedOrForeignTokens() {
+        String wrongVersion = Base64.getUrlEncoder().encodeToString(
+                "v0|title|ASC|s|id|x".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(wrongVersion)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsCursorForDifferentSort() {
+        KeysetCursor cursor = new KeysetCursor("createdAt", Sort.Direction.DESC, 1L, "id");
+
+        cursor.verifySort("createdAt", Sort.Direction.DESC);
+        assertThatThrownBy(() -> cursor.verifySort("createdAt", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> cursor.verifySort("title", Sort.Direction.DESC))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void rejectsUnknownSortField() {
+        assertThatThrownBy(() -> KeysetCursor.after(new TaskLike(Priority.LOW), "id", "missing", Sort.Direction.ASC))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    public static class TaskLike {
+
+        private final Priority priority;
+
+        TaskLike(Priority priority) {
+            this.priority = priority;
+        }
+
+        public Priority getPriority() {
+            return priority;
+        }
+    }
+}
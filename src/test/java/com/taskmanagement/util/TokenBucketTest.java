@@ -0,0 +1,52 @@
+package com.taskmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    void startsFullAndAllowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 0.001);
+
+        assertThat(bucket.availableTokens()).isEqualTo(3);
+        assertThat(bucket.tryConsume(1)).isZero();
+        assertThat(bucket.tryConsume(2)).isZero();
+        assertThat(bucket.availableTokens()).isZero();
+    }
+
+    @Test
+    void reportsWaitUntilEnoughTokensAccumulate() {
+        TokenBucket bucket = new TokenBucket(2, 1.0);
+        bucket.tryConsume(2);
+
+        long waitNanos = bucket.tryConsume(1);
+
+        // One token at one per second, minus the few nanoseconds already elapsed
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(waitNanos).isGreaterThan(TimeUnit.MILLISECONDS.toNanos(900));
+    }
+
+    @Test
+    void refillsOverTimeWithoutExceedingCapacity() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(5, 1_000_000);
+        bucket.tryConsume(5);
+
+        Thread.sleep(20);
+
+        assertThat(bucket.availableTokens()).isEqualTo(5);
+        assertThat(bucket.tryConsume(5)).isZero();
+    }
+
+    @Test
+    void costAboveCapacityDrainsAFullBucketInsteadOfNeverSucceeding() {
+        TokenBucket bucket = new TokenBucket(4, 0.001);
+
+        assertThat(bucket.tryConsume(10)).isZero();
+        assertThat(bucket.availableTokens()).isZero();
+        assertThat(bucket.tryConsume(10)).isPositive();
+    }
+}
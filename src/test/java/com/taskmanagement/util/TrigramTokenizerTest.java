@@ -0,0 +1,42 @@
+package com.taskmanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramTokenizerTest {
+
+    @Test
+    void splitsLowerCasedTextIntoDistinctTrigramsInOrder() {
+        assertThat(TrigramTokenizer.tokenize("Banana"))
+                .containsExactly("ban", "ana", "nan");
+    }
+
+    @Test
+    void normalisesWhitespaceBeforeSplitting() {
+        assertThat(TrigramTokenizer.tokenize("  a \t\n b  ")).containsExactly("a b");
+    }
+
+    @Test
+    void mergesGramsAcrossTextsAndSkipsNulls() {
+        assertThat(TrigramTokenizer.tokenize("abc", null, "bcd", "ab"))
+                .containsExactly("abc", "bcd");
+    }
+
+    @Test
+    void termGramsAreSubsetOfTextGramsForAnySubstring() {
+        String text = "Fix login redirect on Safari";
+
+        assertThat(TrigramTokenizer.tokenize(text))
+                .containsAll(TrigramTokenizer.tokenize("LOGIN red"));
+    }
+
+    @Test
+    void onlyTermsOfAtLeastOneGramAreSearchable() {
+        assertThat(TrigramTokenizer.isSearchable("ab")).isFalse();
+        assertThat(TrigramTokenizer.isSearchable("  ab  ")).isFalse();
+        assertThat(TrigramTokenizer.isSearchable(null)).isFalse();
+        assertThat(TrigramTokenizer.isSearchable("a b")).isTrue();
+        assertThat(TrigramTokenizer.tokenize("ab")).isEmpty();
+    }
+}